@@ -0,0 +1,86 @@
+package duke.benchmark;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.control.Label;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.HBox;
+
+/**
+ * Measures building the dialog box of one message, by parsing the FXML template as DialogBox used to, and by
+ * the code DialogBox uses now. DialogBox is in the unnamed package, so it is reached through a MethodHandle.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DialogBoxBenchmark {
+    private static final String TEXT = "Got it. I've added this task:\n  [T][ ] read book\n"
+            + "Now you have 1 tasks in the list.";
+
+    private URL template;
+    private Image image;
+    private MethodHandle getDukeDialog;
+
+    /**
+     * Starts the JavaFX toolkit, which controls and Images need, and loads the shared Image.
+     * @throws ReflectiveOperationException if DialogBox is not found.
+     */
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        try {
+            Platform.startup(() -> { });
+        } catch (IllegalStateException exception) {
+            // The toolkit is already running.
+        }
+        template = DialogBoxBenchmark.class.getResource("/view/DialogBox.fxml");
+        image = new Image(DialogBoxBenchmark.class.getResourceAsStream("/images/DaDuke.png"));
+        Class<?> dialogBox = Class.forName("DialogBox");
+        getDukeDialog = MethodHandles.publicLookup().findStatic(dialogBox, "getDukeDialog",
+                MethodType.methodType(dialogBox, String.class, Image.class));
+    }
+
+    /**
+     * Builds a dialog box by parsing the FXML template, as every message used to.
+     * @return The dialog box.
+     * @throws IOException if the template cannot be loaded.
+     */
+    @Benchmark
+    public HBox buildFromFxml() throws IOException {
+        FXMLLoader fxmlLoader = new FXMLLoader(template);
+        HBox root = new HBox();
+        fxmlLoader.setRoot(root);
+        fxmlLoader.setController(new Object());
+        fxmlLoader.load();
+        Label dialog = (Label) fxmlLoader.getNamespace().get("dialog");
+        ImageView displayPicture = (ImageView) fxmlLoader.getNamespace().get("displayPicture");
+        dialog.setText(TEXT);
+        displayPicture.setImage(image);
+        return root;
+    }
+
+    /**
+     * Builds a dialog box in code, as DialogBox does now.
+     * @return The dialog box.
+     * @throws Throwable if DialogBox fails to be built.
+     */
+    @Benchmark
+    public Object buildInCode() throws Throwable {
+        return getDukeDialog.invoke(TEXT, image);
+    }
+}
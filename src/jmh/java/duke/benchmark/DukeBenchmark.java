@@ -0,0 +1,83 @@
+package duke.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import duke.Duke;
+import duke.command.Command;
+import duke.command.FindCommand;
+import duke.util.MessagePrinter;
+import duke.util.Parser;
+
+/**
+ * Measures executing Commands on a Duke holding TaskLists of different sizes, and rendering the responses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DukeBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private Duke duke;
+    private Command markCommand;
+    private Command unmarkCommand;
+    private Command findCommand;
+    private MessagePrinter messagePrinter;
+    private String listMessage;
+
+    /**
+     * Fills Duke with the Tasks of the given size once for all iterations.
+     */
+    @Setup
+    public void setUp() {
+        duke = new Duke();
+        duke.setTaskList(TaskDataset.generateTaskList(size));
+        int middle = size / 2 + 1;
+        markCommand = Parser.parseCommand("mark " + middle);
+        unmarkCommand = Parser.parseCommand("unmark " + middle);
+        findCommand = new FindCommand(TaskDataset.WORDS[0] + " " + TaskDataset.WORDS[1]);
+        messagePrinter = duke.getMessagePrinter();
+        listMessage = TaskDataset.generateTaskList(Math.min(size, 1000)).toString();
+    }
+
+    /**
+     * Marks and unmarks a Task in the middle of the TaskList, each recorded in the undo history.
+     * @return The response of the second Command.
+     */
+    @Benchmark
+    public String executeMarkAndUnmark() {
+        duke.execute(markCommand);
+        return duke.execute(unmarkCommand);
+    }
+
+    @Benchmark
+    public String executeFind() {
+        return duke.execute(findCommand);
+    }
+
+    /**
+     * Runs the same search from four threads at once. As searches share the read lock of Duke, the time per
+     * search should stay close to that of executeFind when there are enough cores.
+     * @return The response of Duke.
+     */
+    @Benchmark
+    @Threads(4)
+    public String executeFindConcurrently() {
+        return duke.execute(findCommand);
+    }
+
+    @Benchmark
+    public String getPrintMessage() {
+        return messagePrinter.getPrintMessage(listMessage);
+    }
+}
@@ -0,0 +1,62 @@
+package duke.benchmark;
+
+import java.util.EnumMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import duke.command.Action;
+import duke.command.Command;
+import duke.util.Parser;
+
+/**
+ * Measures parsing a user input into a Command, for each Action.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParserBenchmark {
+    private static final EnumMap<Action, String> ENTRIES = new EnumMap<>(Action.class);
+
+    static {
+        ENTRIES.put(Action.DO_NOTHING, "");
+        ENTRIES.put(Action.GREET, "greet");
+        ENTRIES.put(Action.EXIT, "bye");
+        ENTRIES.put(Action.LIST, "list");
+        ENTRIES.put(Action.MARK, "mark 12");
+        ENTRIES.put(Action.UNMARK, "unmark 12");
+        ENTRIES.put(Action.TODO, "todo read book");
+        ENTRIES.put(Action.EVENT, "event project meeting /at 2022-08-25 14:00");
+        ENTRIES.put(Action.DEADLINE, "deadline return book /by 2022-08-25 23:45");
+        ENTRIES.put(Action.DELETE, "delete 12");
+        ENTRIES.put(Action.SAVE, "save");
+        ENTRIES.put(Action.READ, "read");
+        ENTRIES.put(Action.FIND, "find book");
+        ENTRIES.put(Action.UNDO, "undo");
+        ENTRIES.put(Action.REDO, "redo");
+        ENTRIES.put(Action.HISTORY, "history");
+    }
+
+    @Param({"DO_NOTHING", "GREET", "EXIT", "LIST", "MARK", "UNMARK", "TODO", "EVENT", "DEADLINE", "DELETE",
+        "SAVE", "READ", "FIND", "UNDO", "REDO", "HISTORY"})
+    private String action;
+
+    private String entry;
+
+    @Setup
+    public void setUp() {
+        entry = ENTRIES.get(Action.valueOf(action));
+    }
+
+    @Benchmark
+    public Command parseCommand() {
+        return Parser.parseCommand(entry);
+    }
+}
@@ -0,0 +1,81 @@
+package duke.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.Task;
+import duke.task.Todo;
+import duke.util.TaskList;
+
+/**
+ * Generates synthetic Tasks for the benchmarks. The same size always gives the same Tasks, so that
+ * results of different runs can be compared.
+ */
+public class TaskDataset {
+    /**
+     * The words that names of generated Tasks are made of.
+     */
+    public static final String[] WORDS = {
+        "read", "book", "return", "buy", "bread", "project", "meeting", "submit", "report", "call",
+        "plan", "trip", "review", "code", "clean", "room", "pay", "bill", "write", "email"
+    };
+
+    private static final long SEED = 2103;
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2022, 8, 25, 0, 0);
+
+    /**
+     * Returns the given number of generated Tasks, a third of each type and a fifth marked as done.
+     * Names are unique, so all Tasks can be added to one TaskList.
+     * @param size The number of Tasks.
+     * @return The generated Tasks.
+     */
+    public static List<Task> generateTasks(int size) {
+        Random random = new Random(SEED);
+        ArrayList<Task> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            LocalDateTime time = START_TIME.plusMinutes(random.nextInt(365 * 24 * 60));
+            boolean isDone = random.nextInt(5) == 0;
+            Task task;
+            switch (i % 3) {
+            case 0:
+                task = new Todo(name, isDone);
+                break;
+            case 1:
+                task = new Event(name, time, isDone);
+                break;
+            default:
+                task = new Deadline(name, time, isDone);
+                break;
+            }
+            result.add(task);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a TaskList holding the given number of generated Tasks.
+     * @param size The number of Tasks.
+     * @return The TaskList.
+     */
+    public static TaskList generateTaskList(int size) {
+        TaskList result = new TaskList();
+        generateTasks(size).forEach(result::add);
+        return result;
+    }
+
+    /**
+     * Returns the formatted rows of the given number of generated Tasks, as they are saved in the file.
+     * @param size The number of Tasks.
+     * @return The formatted rows.
+     */
+    public static List<String> generateRows(int size) {
+        ArrayList<String> result = new ArrayList<>(size);
+        generateTasks(size).forEach(task -> result.add(task.toFormattedString()));
+        return result;
+    }
+}
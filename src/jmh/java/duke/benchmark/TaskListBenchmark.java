@@ -0,0 +1,124 @@
+package duke.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import duke.task.Task;
+import duke.task.Todo;
+import duke.util.Parser;
+import duke.util.TaskList;
+import duke.util.TaskSearchIndex;
+
+/**
+ * Measures reading, writing and growing TaskLists of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskListBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private List<String> rows;
+    private String formattedTaskList;
+    private TaskList taskList;
+    private Task extraTask;
+    private long nameChars;
+
+    /**
+     * Generates the Tasks of the given size once for all iterations.
+     */
+    @Setup
+    public void setUp() {
+        rows = TaskDataset.generateRows(size);
+        formattedTaskList = String.join(System.lineSeparator(), rows);
+        taskList = TaskDataset.generateTaskList(size);
+        extraTask = new Todo("extra task");
+        nameChars = 0;
+        for (Task task : taskList) {
+            nameChars += task.getName().length();
+        }
+    }
+
+    /**
+     * Parses the formatted TaskList as it is read from the file, in parallel batches.
+     * @return The parsed TaskList.
+     */
+    @Benchmark
+    public TaskList parseTaskList() {
+        return Parser.parseTaskList(formattedTaskList);
+    }
+
+    /**
+     * Parses the same rows one by one on the calling thread, as the baseline of parseTaskList.
+     * @return The parsed TaskList.
+     */
+    @Benchmark
+    public TaskList parseTaskListSequentially() {
+        TaskList result = new TaskList();
+        for (String row : rows) {
+            result.add(Parser.parseTask(row));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public String toFormattedString() {
+        return taskList.toFormattedString();
+    }
+
+    /**
+     * Adds a Task to the end of the full TaskList, then removes it so that the size stays the same.
+     * @return The removed Task.
+     */
+    @Benchmark
+    public Task addTask() {
+        taskList.add(extraTask);
+        return taskList.remove(taskList.size() - 1);
+    }
+
+    /**
+     * Builds the search index over the full TaskList, once per iteration as it is built on the first search.
+     * The gc profiler reports the bytes allocated to build it, and the counters report the estimated bytes it
+     * keeps next to the number of characters it indexes, summed over the measured iterations.
+     * @param counters The counters of the index size.
+     * @return The search index.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public TaskSearchIndex buildSearchIndex(IndexSizeCounters counters) {
+        TaskSearchIndex index = new TaskSearchIndex(taskList);
+        counters.indexBytes = index.estimateSize();
+        counters.nameChars = nameChars;
+        return index;
+    }
+
+    /**
+     * Represents the size of the search index built in an iteration, reported next to the time of
+     * buildSearchIndex.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class IndexSizeCounters {
+        private long indexBytes;
+        private long nameChars;
+
+        public long indexBytes() {
+            return indexBytes;
+        }
+
+        public long nameChars() {
+            return nameChars;
+        }
+    }
+}
@@ -1,52 +1,79 @@
-import java.io.IOException;
 import java.util.Collections;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
+import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
+import javafx.scene.text.Font;
 
 /**
- * An example of a custom control using FXML.
  * This control represents a dialog box consisting of an ImageView to represent the speaker's face and a label
  * containing text from the speaker.
+ * The dialog box is built in code rather than by parsing an FXML file, which used to take milliseconds per message.
  */
 public class DialogBox extends HBox {
     public static final double ROW_HEIGHT = 18;
     public static final int ROW_LENGTH = 35;
-    @FXML
-    private Label dialog;
-    @FXML
-    private ImageView displayPicture;
+    private static final Font FONT = new Font("Courier New Bold", 13);
+    private static final double PREF_WIDTH = 400;
+    private static final double PICTURE_WIDTH = 54;
+    private static final double PICTURE_HEIGHT = 52;
+    private static final double VERTICAL_PADDING = 15;
+    private static final double HORIZONTAL_PADDING = 5;
+
+    private final Label dialog = new Label();
+    private final ImageView displayPicture = new ImageView();
+    private boolean isFlipped;
 
     private DialogBox(String text, Image img) {
-        try {
-            FXMLLoader fxmlLoader = new FXMLLoader(MainWindow.class.getResource("/view/DialogBox.fxml"));
-            fxmlLoader.setController(this);
-            fxmlLoader.setRoot(this);
-            fxmlLoader.load();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        dialog.setFont(FONT);
+        dialog.setWrapText(true);
+        dialog.setMinHeight(Region.USE_PREF_SIZE);
+        dialog.setMaxHeight(Region.USE_PREF_SIZE);
+        displayPicture.setFitWidth(PICTURE_WIDTH);
+        displayPicture.setFitHeight(PICTURE_HEIGHT);
+        displayPicture.setPreserveRatio(true);
+        displayPicture.setPickOnBounds(true);
+        getChildren().setAll(dialog, displayPicture);
+        setAlignment(Pos.TOP_RIGHT);
+        setPrefWidth(PREF_WIDTH);
+        setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
+        setPadding(new Insets(VERTICAL_PADDING, HORIZONTAL_PADDING, VERTICAL_PADDING, HORIZONTAL_PADDING));
 
         dialog.setText(text);
         displayPicture.setImage(img);
     }
 
     /**
-     * Flips the dialog box such that the ImageView is on the left and text on the right.
+     * Shows the given message in the dialog box, so that one dialog box can be reused for many messages.
+     * @param text The text of the message.
+     * @param img The picture of the speaker.
+     * @param isUser Whether the speaker is the user, whose picture is on the right.
+     */
+    public void setMessage(String text, Image img, boolean isUser) {
+        dialog.setText(text);
+        displayPicture.setImage(img);
+        if (isUser == isFlipped) {
+            flip();
+        }
+    }
+
+    /**
+     * Flips the dialog box between the ImageView on the right of the text, as for the user, and on the left,
+     * as for Duke.
      */
     private void flip() {
         ObservableList<Node> tmp = FXCollections.observableArrayList(this.getChildren());
         Collections.reverse(tmp);
         getChildren().setAll(tmp);
-        setAlignment(Pos.TOP_LEFT);
+        setAlignment(isFlipped ? Pos.TOP_RIGHT : Pos.TOP_LEFT);
+        isFlipped = !isFlipped;
     }
 
     public static DialogBox getUserDialog(String text, Image img) {
@@ -0,0 +1,50 @@
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.image.Image;
+
+/**
+ * Represents a row of the transcript. The ListView only creates enough cells to fill the visible rows, and each
+ * cell reuses its DialogBox for whichever message scrolls into it.
+ */
+public class DialogCell extends ListCell<DialogMessage> {
+    private static final double SCROLL_BAR_WIDTH = 20;
+
+    private final DialogBox dialogBox = DialogBox.getUserDialog("", null);
+    private final Image userImage;
+    private final Image dukeImage;
+    private final Runnable onArchiveMarkerShown;
+
+    /**
+     * Constructs the class.
+     * @param listView The ListView of the transcript, whose width the rows follow.
+     * @param userImage The picture of the user.
+     * @param dukeImage The picture of Duke.
+     * @param onArchiveMarkerShown The action run when the marker of the archived messages comes into view.
+     */
+    public DialogCell(ListView<DialogMessage> listView, Image userImage, Image dukeImage,
+            Runnable onArchiveMarkerShown) {
+        this.userImage = userImage;
+        this.dukeImage = dukeImage;
+        this.onArchiveMarkerShown = onArchiveMarkerShown;
+        setPrefWidth(0);
+        dialogBox.prefWidthProperty().bind(listView.widthProperty().subtract(SCROLL_BAR_WIDTH));
+    }
+
+    @Override
+    protected void updateItem(DialogMessage message, boolean isEmpty) {
+        super.updateItem(message, isEmpty);
+        setText(null);
+        if (isEmpty || message == null) {
+            setGraphic(null);
+            return;
+        }
+        if (message.getIsArchiveMarker()) {
+            setGraphic(null);
+            setText(message.getText());
+            onArchiveMarkerShown.run();
+            return;
+        }
+        dialogBox.setMessage(message.getText(), message.getIsUser() ? userImage : dukeImage, message.getIsUser());
+        setGraphic(dialogBox);
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * Represents a message in the transcript of the window, either an input of the user or a response of Duke.
+ * Messages are plain records, and only the messages in view are shown by DialogBoxes.
+ */
+public class DialogMessage {
+    private static final String PENDING_TEXT = "...";
+    private static final String ARCHIVE_MARKER_TEXT = "Scroll up to load earlier messages.";
+
+    private final String text;
+    private final Type type;
+
+    private DialogMessage(String text, Type type) {
+        this.text = text;
+        this.type = type;
+    }
+
+    /**
+     * Returns the message of the given speaker.
+     * @param text The text of the message.
+     * @param isUser Whether the speaker is the user.
+     * @return The message.
+     */
+    public static DialogMessage getMessage(String text, boolean isUser) {
+        return new DialogMessage(text, isUser ? Type.USER : Type.DUKE);
+    }
+
+    public static DialogMessage getUserMessage(String text) {
+        return new DialogMessage(text, Type.USER);
+    }
+
+    public static DialogMessage getDukeMessage(String text) {
+        return new DialogMessage(text, Type.DUKE);
+    }
+
+    /**
+     * Returns a placeholder for a response of Duke which is not yet available.
+     * @return The pending message.
+     */
+    public static DialogMessage getPendingMessage() {
+        return new DialogMessage(PENDING_TEXT, Type.PENDING);
+    }
+
+    /**
+     * Returns the row standing for the earlier messages which are moved out of memory.
+     * @return The marker of the archived messages.
+     */
+    public static DialogMessage getArchiveMarker() {
+        return new DialogMessage(ARCHIVE_MARKER_TEXT, Type.ARCHIVE_MARKER);
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public boolean getIsUser() {
+        return type == Type.USER;
+    }
+
+    public boolean getIsPending() {
+        return type == Type.PENDING;
+    }
+
+    public boolean getIsArchiveMarker() {
+        return type == Type.ARCHIVE_MARKER;
+    }
+
+    /**
+     * Represents the kinds of rows in the transcript.
+     */
+    private enum Type {
+        USER, DUKE, PENDING, ARCHIVE_MARKER
+    }
+}
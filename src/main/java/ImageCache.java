@@ -0,0 +1,29 @@
+import java.util.concurrent.ConcurrentHashMap;
+
+import javafx.scene.image.Image;
+
+/**
+ * The cache of the Images used by the window, so that each picture is decoded once and shared by all dialog boxes.
+ */
+public class ImageCache {
+    /**
+     * The path of the picture of the user.
+     */
+    public static final String USER_IMAGE = "/images/DaUser.png";
+
+    /**
+     * The path of the picture of Duke.
+     */
+    public static final String DUKE_IMAGE = "/images/DaDuke.png";
+
+    private static final ConcurrentHashMap<String, Image> images = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the Image at the given resource path, loading it on first use.
+     * @param path The resource path of the Image.
+     * @return The shared Image.
+     */
+    public static Image get(String path) {
+        return images.computeIfAbsent(path, key -> new Image(ImageCache.class.getResourceAsStream(key)));
+    }
+}
@@ -1,37 +1,81 @@
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 
 import duke.Duke;
 import duke.command.Action;
+import duke.task.Task;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
+import javafx.scene.Cursor;
 import javafx.scene.control.Button;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TableView;
 import javafx.scene.control.TextField;
 import javafx.scene.image.Image;
 import javafx.scene.layout.AnchorPane;
-import javafx.scene.layout.VBox;
 /**
  * Controller for MainWindow. Provides the layout for the other controls.
+ * Duke runs its commands on a single worker thread, so that a slow command does not freeze the window. Inputs sent
+ * while a command runs are queued in order, and each response is posted back to the JavaFX application thread.
+ * The transcript is a virtualized ListView of messages, so only the visible messages are turned into DialogBoxes.
+ * Older messages are moved to an archive file and loaded back when the user scrolls to the top.
+ * The side panel follows the TaskList of Duke change by change.
  */
 public class MainWindow extends AnchorPane {
+    private static final String BUSY_TEXT = "...";
+    private static final String BUSY_PROMPT = "Duke is busy. Your inputs are queued.";
+
     @FXML
     private Random random = new Random();
     @FXML
-    private ScrollPane scrollPane;
-    @FXML
-    private VBox dialogContainer;
+    private ListView<DialogMessage> transcriptView;
     @FXML
     private TextField userInput;
     @FXML
     private Button sendButton;
+    @FXML
+    private TableView<Task> taskTable;
 
+    /**
+     * The Duke of the window, which is only used on the worker thread.
+     */
     private Duke duke;
 
-    private Image userImage = new Image(this.getClass().getResourceAsStream("/images/DaUser.png"));
-    private Image dukeImage = new Image(this.getClass().getResourceAsStream("/images/DaDuke.png"));
+    /**
+     * The worker thread running the commands of Duke one by one.
+     */
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "duke-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
 
+    /**
+     * The number of inputs sent to the worker thread and not yet responded, only used on the JavaFX thread.
+     */
+    private int pendingCount;
+    private boolean isLoadScheduled;
+    private Transcript transcript;
+    private TaskPanel taskPanel;
+    private String sendText;
+    private String idlePrompt;
+
+    private final Image userImage = ImageCache.get(ImageCache.USER_IMAGE);
+    private final Image dukeImage = ImageCache.get(ImageCache.DUKE_IMAGE);
+
+    /**
+     * Sets up the transcript, the task panel and the cells of the transcript once the FXML fields are injected.
+     */
     @FXML
     public void initialize() {
-        scrollPane.vvalueProperty().bind(dialogContainer.heightProperty());
+        transcript = new Transcript(transcriptView.getItems());
+        taskPanel = new TaskPanel(taskTable);
+        transcriptView.setCellFactory(listView -> new DialogCell(listView, userImage, dukeImage,
+                this::scheduleLoadArchived));
+        sendText = sendButton.getText();
+        idlePrompt = userInput.getPromptText();
     }
 
     public void setDuke(Duke duke) {
@@ -39,8 +83,8 @@ public class MainWindow extends AnchorPane {
     }
 
     /**
-     * Creates two dialog boxes, one echoing user input and the other containing Duke's reply and then appends them to
-     * the dialog container. Clears the user input after processing.
+     * Adds two messages, one echoing user input and the other containing Duke's reply, to the transcript.
+     * Clears the user input after processing. The reply is filled in when the worker thread has executed the input.
      */
     @FXML
     private void handleUserInput() {
@@ -48,48 +92,103 @@ public class MainWindow extends AnchorPane {
         if (input.isEmpty()) {
             return;
         }
+        userInput.clear();
+        addMessage(DialogMessage.getUserMessage(input));
         if (input.equals("boot")) {
-            userInput.clear();
-            addDialogBox(DialogBox.getUserDialog("boot", userImage));
             boot();
             return;
         }
-        String response = duke.getResponse(input);
-        userInput.clear();
-        DialogBox userDialog = DialogBox.getUserDialog(input, userImage);
-        DialogBox dukeDialog = DialogBox.getDukeDialog(response, dukeImage);
-        addDialogBox(userDialog);
-        addDialogBox(dukeDialog);
+        submit(() -> duke.getResponse(input));
+    }
 
-        if (!duke.isRunning()) {
-            end();
-        }
+    private void addMessage(DialogMessage message) {
+        transcript.add(message);
+        transcriptView.scrollTo(transcriptView.getItems().size() - 1);
     }
 
-    @FXML
-    private void addDialogBox(DialogBox dialogBox) {
-        dialogContainer.getChildren().add(dialogBox);
+    private void replaceMessage(DialogMessage pending, DialogMessage message) {
+        transcript.replace(pending, message);
+        transcriptView.scrollTo(transcriptView.getItems().size() - 1);
+    }
+
+    /**
+     * Loads archived messages after the current layout pass, as the rows cannot be changed while cells are updated.
+     */
+    private void scheduleLoadArchived() {
+        if (isLoadScheduled) {
+            return;
+        }
+        isLoadScheduled = true;
+        Platform.runLater(() -> {
+            isLoadScheduled = false;
+            transcriptView.scrollTo(transcript.loadArchived());
+        });
     }
 
     @FXML
     private void boot(Duke... dukes) {
-        if (dukes.length == 0) {
-            this.duke = new Duke();
-        } else if (dukes[0] == null) {
-            this.duke = new Duke();
-        } else {
-            this.duke = dukes[0];
+        submit(() -> {
+            if (dukes.length == 0) {
+                this.duke = new Duke();
+            } else if (dukes[0] == null) {
+                this.duke = new Duke();
+            } else {
+                this.duke = dukes[0];
+            }
+            duke.addTaskListListener(taskPanel);
+            return duke.getResponse(Action.convertToString(Action.GREET));
+        });
+    }
+
+    /**
+     * Adds a pending message of Duke and runs the given task on the worker thread. The message is replaced by the
+     * result of the task once it is done.
+     * @param task The task returning the response of Duke.
+     */
+    private void submit(Supplier<String> task) {
+        DialogMessage pending = DialogMessage.getPendingMessage();
+        addMessage(pending);
+        pendingCount++;
+        setBusy(true);
+        worker.execute(() -> {
+            String response;
+            boolean isRunning;
+            try {
+                response = task.get();
+                isRunning = duke.isRunning();
+            } catch (RuntimeException exception) {
+                response = "Duke failed to respond: " + exception;
+                isRunning = true;
+            }
+            String result = response;
+            boolean isEnding = !isRunning;
+            Platform.runLater(() -> {
+                replaceMessage(pending, DialogMessage.getDukeMessage(result));
+                pendingCount--;
+                setBusy(pendingCount > 0);
+                if (isEnding) {
+                    end();
+                }
+            });
+        });
+    }
+
+    private void setBusy(boolean isBusy) {
+        sendButton.setText(isBusy ? BUSY_TEXT : sendText);
+        userInput.setPromptText(isBusy ? BUSY_PROMPT : idlePrompt);
+        if (userInput.getScene() != null) {
+            userInput.getScene().setCursor(isBusy ? Cursor.WAIT : Cursor.DEFAULT);
         }
-        addDialogBox(DialogBox.getDukeDialog(duke.getResponse(Action.convertToString(Action.GREET)), dukeImage));
     }
 
     @FXML
     private void end() {
+        worker.shutdownNow();
+        sendButton.setDisable(true);
+        userInput.setDisable(true);
+        userInput.setText("Shutting Down...");
         new Thread(() -> {
             try {
-                sendButton.setDisable(true);
-                userInput.setDisable(true);
-                userInput.setText("Shutting Down...");
                 Thread.sleep(getNextSleepingTime());
                 System.exit(0);
             } catch (Exception e) {
@@ -0,0 +1,95 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import duke.task.Task;
+import duke.util.TaskList;
+import duke.util.TaskListListener;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.collections.ObservableList;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+
+/**
+ * Represents the side panel of the window showing the Tasks of Duke in a virtualized table.
+ * The changes to the TaskList are applied to the rows one by one, so that marking a Task repaints one row rather
+ * than the whole list. Changes are made on the worker thread of Duke, and are queued and applied in order on the
+ * JavaFX application thread, as many as are waiting at a time.
+ */
+public class TaskPanel implements TaskListListener {
+    private static final double ROW_HEIGHT = 24;
+    private static final double NUMBER_WIDTH = 60;
+
+    private final TableView<Task> table;
+    private final ConcurrentLinkedQueue<Consumer<ObservableList<Task>>> updates = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isApplyScheduled = new AtomicBoolean();
+
+    /**
+     * Constructs the class.
+     * @param table The table showing the Tasks.
+     */
+    public TaskPanel(TableView<Task> table) {
+        this.table = table;
+        TableColumn<Task, String> numberColumn = new TableColumn<>("No.");
+        numberColumn.setPrefWidth(NUMBER_WIDTH);
+        numberColumn.setSortable(false);
+        numberColumn.setCellFactory(column -> new TableCell<>() {
+            @Override
+            protected void updateItem(String item, boolean isEmpty) {
+                super.updateItem(item, isEmpty);
+                setText(isEmpty ? null : Integer.toString(getIndex() + 1));
+            }
+        });
+        TableColumn<Task, String> taskColumn = new TableColumn<>("Task");
+        taskColumn.setSortable(false);
+        taskColumn.setCellValueFactory(features -> new ReadOnlyStringWrapper(features.getValue().toString()));
+        table.getColumns().setAll(List.of(numberColumn, taskColumn));
+        table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+        table.setFixedCellSize(ROW_HEIGHT);
+    }
+
+    @Override
+    public void onAdded(int i, Task task) {
+        post(rows -> rows.add(i, task));
+    }
+
+    @Override
+    public void onRemoved(int i, Task task) {
+        post(rows -> rows.remove(i));
+    }
+
+    @Override
+    public void onUpdated(int i, Task oldTask, Task newTask) {
+        post(rows -> rows.set(i, newTask));
+    }
+
+    /**
+     * Copies the Tasks of the new TaskList on the calling thread, and shows them in place of all rows.
+     * @param tasks The TaskList now in use.
+     */
+    @Override
+    public void onReplaced(TaskList tasks) {
+        ArrayList<Task> copy = new ArrayList<>(tasks.size());
+        tasks.forEach(copy::add);
+        post(rows -> rows.setAll(copy));
+    }
+
+    private void post(Consumer<ObservableList<Task>> update) {
+        updates.add(update);
+        if (isApplyScheduled.compareAndSet(false, true)) {
+            Platform.runLater(this::applyUpdates);
+        }
+    }
+
+    private void applyUpdates() {
+        isApplyScheduled.set(false);
+        ObservableList<Task> rows = table.getItems();
+        for (Consumer<ObservableList<Task>> update = updates.poll(); update != null; update = updates.poll()) {
+            update.accept(rows);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ObservableList;
+
+/**
+ * Represents the messages shown in the transcript of the window. At most a fixed number of messages, set by the
+ * system property, are kept in memory. Older messages are moved to a TranscriptArchive, and a marker row at the
+ * top stands for them until they are loaded back.
+ */
+public class Transcript {
+    /**
+     * The system property setting the number of messages kept in memory.
+     */
+    public static final String CAP_PROPERTY = "duke.gui.transcriptCap";
+
+    private static final int DEFAULT_CAP = 1000;
+    private static final int MIN_CAP = 8;
+    private static final Path ARCHIVE_PATH = Paths.get("data", "transcript.bin");
+
+    private final ObservableList<DialogMessage> messages;
+    private final DialogMessage archiveMarker = DialogMessage.getArchiveMarker();
+    private final int cap;
+    private final int chunkSize;
+    private TranscriptArchive archive;
+    private boolean isArchiveFailed;
+
+    /**
+     * The position in the whole session of the first message in memory.
+     */
+    private int firstPosition;
+
+    /**
+     * Constructs the class.
+     * @param messages The rows shown by the window, which the transcript manages.
+     */
+    public Transcript(ObservableList<DialogMessage> messages) {
+        this.messages = messages;
+        this.cap = Math.max(MIN_CAP, Integer.getInteger(CAP_PROPERTY, DEFAULT_CAP));
+        this.chunkSize = cap / 4;
+    }
+
+    /**
+     * Adds the given message at the end, and moves the oldest messages to the archive if there are too many.
+     * @param message The given message.
+     */
+    public void add(DialogMessage message) {
+        messages.add(message);
+        archiveIfFull();
+    }
+
+    /**
+     * Replaces the given pending message, and moves the oldest messages to the archive if there are too many.
+     * It is searched from the end, as replies arrive shortly after their inputs are added.
+     * @param pending The pending message.
+     * @param message The message replacing it.
+     */
+    public void replace(DialogMessage pending, DialogMessage message) {
+        for (int i = messages.size() - 1; i >= 0; i--) {
+            if (messages.get(i) == pending) {
+                messages.set(i, message);
+                archiveIfFull();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Loads the latest archived messages which are not in memory back above the others.
+     * @return The row of the message that was at the top before loading.
+     */
+    public int loadArchived() {
+        if (firstPosition == 0) {
+            return 0;
+        }
+        int from = Math.max(0, firstPosition - chunkSize);
+        List<DialogMessage> older;
+        try {
+            older = archive.read(from, firstPosition);
+        } catch (IOException exception) {
+            exception.printStackTrace();
+            return 0;
+        }
+        if (from == 0) {
+            messages.remove(0);
+        }
+        firstPosition = from;
+        messages.addAll(getFirstMessageRow(), older);
+        return getFirstMessageRow() + older.size();
+    }
+
+    /**
+     * Moves the oldest messages to the archive if there are more than a chunk over the cap in memory. As pending
+     * messages are not moved, this is checked again whenever one of them is replaced.
+     */
+    private void archiveIfFull() {
+        if (!isArchiveFailed && getMessageCount() > cap + chunkSize) {
+            archive(getMessageCount() - cap);
+        }
+    }
+
+    /**
+     * Moves the given number of the oldest messages out of memory. Messages which are not yet in the archive are
+     * appended to it. Moving stops at the first pending message, whose reply is still to be filled in.
+     * @param count The given number.
+     */
+    private void archive(int count) {
+        int firstRow = getFirstMessageRow();
+        ArrayList<DialogMessage> unarchived = new ArrayList<>();
+        int moved = 0;
+        for (; moved < count; moved++) {
+            DialogMessage message = messages.get(firstRow + moved);
+            if (message.getIsPending()) {
+                break;
+            }
+            if (firstPosition + moved >= getArchivedCount()) {
+                unarchived.add(message);
+            }
+        }
+        try {
+            if (archive == null) {
+                archive = new TranscriptArchive(ARCHIVE_PATH);
+            }
+            archive.append(unarchived);
+        } catch (IOException exception) {
+            // Messages are kept in memory from now on, rather than lost.
+            exception.printStackTrace();
+            isArchiveFailed = true;
+            return;
+        }
+        messages.remove(firstRow, firstRow + moved);
+        if (firstPosition == 0 && moved > 0) {
+            messages.add(0, archiveMarker);
+        }
+        firstPosition += moved;
+    }
+
+    private int getFirstMessageRow() {
+        return firstPosition > 0 ? 1 : 0;
+    }
+
+    private int getMessageCount() {
+        return messages.size() - getFirstMessageRow();
+    }
+
+    private int getArchivedCount() {
+        return archive == null ? 0 : archive.size();
+    }
+}
@@ -0,0 +1,105 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Represents the append-only file holding the messages moved out of the transcript of the window.
+ * Each message is written as its speaker, the number of bytes of its text and the text in UTF-8. Only the file
+ * offset of each message is kept in memory, so that any range of messages can be read back with one seek.
+ * The file is emptied when the archive is opened, as it only serves the current session.
+ */
+public class TranscriptArchive implements Closeable {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final RandomAccessFile file;
+    private long[] offsets = new long[INITIAL_CAPACITY];
+    private int size;
+    private long length;
+
+    /**
+     * Opens an empty archive at the given path.
+     * @param path The given path.
+     * @throws IOException if the file cannot be created.
+     */
+    public TranscriptArchive(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.file = new RandomAccessFile(path.toFile(), "rw");
+        this.file.setLength(0);
+    }
+
+    /**
+     * Returns the number of messages in the archive.
+     * @return The number of messages.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Appends the given messages to the end of the archive with a single write.
+     * @param messages The given messages.
+     * @throws IOException if the file cannot be written.
+     */
+    public void append(List<DialogMessage> messages) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(buffer);
+        for (DialogMessage message : messages) {
+            if (size == offsets.length) {
+                offsets = Arrays.copyOf(offsets, size * 2);
+            }
+            offsets[size++] = length + buffer.size();
+            byte[] text = message.getText().getBytes(StandardCharsets.UTF_8);
+            out.writeBoolean(message.getIsUser());
+            out.writeInt(text.length);
+            out.write(text);
+        }
+        file.seek(length);
+        file.write(buffer.toByteArray());
+        length += buffer.size();
+    }
+
+    /**
+     * Returns the messages in the given range of the archive with a single read.
+     * @param from The position of the first message.
+     * @param to The position after the last message.
+     * @return The messages in order.
+     * @throws IOException if the file cannot be read.
+     */
+    public List<DialogMessage> read(int from, int to) throws IOException {
+        long start = offsets[from];
+        long end = to < size ? offsets[to] : length;
+        byte[] bytes = new byte[Math.toIntExact(end - start)];
+        file.seek(start);
+        file.readFully(bytes);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        ArrayList<DialogMessage> messages = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            boolean isUser = in.readBoolean();
+            byte[] text = new byte[in.readInt()];
+            in.readFully(text);
+            messages.add(DialogMessage.getMessage(new String(text, StandardCharsets.UTF_8), isUser));
+        }
+        return messages;
+    }
+
+    /**
+     * Closes the file of the archive.
+     * @throws IOException if the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+}
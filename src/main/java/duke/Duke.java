@@ -1,27 +1,71 @@
 package duke;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
-import java.util.Stack;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import duke.command.Action;
 import duke.command.Command;
+import duke.command.ReadCommand;
+import duke.command.SaveCommand;
 import duke.exception.CompileException;
 import duke.exception.DukeException;
 import duke.exception.DukeRuntimeException;
+import duke.exception.InvalidArgumentException;
+import duke.exception.ReadFileException;
+import duke.history.Change;
+import duke.history.CompositeChange;
+import duke.history.History;
 import duke.util.MessagePrinter;
 import duke.util.Parser;
 import duke.util.Storage;
 import duke.util.TaskList;
+import duke.util.TaskListListener;
 
 /**
  * The Duke.
+ * Duke may be used by several threads. Commands run under a read/write lock: read-only Commands run at the same
+ * time as each other, and all other Commands run alone. The lock is reentrant, so a Command may run others.
  */
 public class Duke {
-    private boolean isTerminated;
+    private static final String SCRIPT_OPTION = "--script";
+    private static final int MAX_REPORTED_FAILURES = 20;
+    private static final int READ_AHEAD_LINES = 64;
+
+    /**
+     * The marker following the last line of the input.
+     */
+    private static final ParsedInput END_OF_INPUT = new ParsedInput(null, null, null);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean isTerminated;
     private MessagePrinter messagePrinter;
-    private TaskList tasks;
+    private volatile TaskList tasks;
     private Storage storage;
-    private Stack<TaskList> taskListHistory;
+    private History history;
+    private ArrayList<Change> unsavedChanges;
+
+    /**
+     * The Changes applied by the running script, which are recorded as one Change at its end, or null.
+     */
+    private ArrayList<Change> scriptChanges;
+
+    /**
+     * The listeners following the TaskList in use, which are moved over whenever it is replaced.
+     */
+    private final ArrayList<TaskListListener> taskListListeners = new ArrayList<>();
 
     /**
      * Constructs Duke.
@@ -33,7 +77,30 @@ public class Duke {
         initialize(storagePath);
     }
 
+    /**
+     * Constructs Duke storing the Tasks at a given path.
+     *
+     * @param storagePath The given path.
+     */
+    public Duke(String storagePath) {
+        initialize(storagePath);
+    }
+
+    /**
+     * Launches Duke, or only runs the script given by "--script [file]" and prints the report.
+     *
+     * @param args The command line arguments.
+     */
     public static void main(String[] args) {
+        if (args.length == 2 && args[0].equals(SCRIPT_OPTION)) {
+            Duke duke = new Duke();
+            try {
+                System.out.println(duke.runScript(Paths.get(args[1])));
+            } catch (DukeException dukeException) {
+                System.out.println(duke.handle(dukeException));
+            }
+            return;
+        }
         new Duke().run();
     }
 
@@ -41,18 +108,51 @@ public class Duke {
         this.tasks = new TaskList();
         this.messagePrinter = new MessagePrinter();
         this.storage = new Storage(storagePath);
-        this.taskListHistory = new Stack<>();
+        this.history = History.create();
     }
 
     /**
      * Launches Duke.
      */
     public void run() {
-        Scanner scanner = new Scanner(System.in);
-        while (!this.isTerminated) {
-            if (scanner.hasNext()) {
-                getResponse(scanner.nextLine());
+        BlockingQueue<ParsedInput> inputs = new ArrayBlockingQueue<>(READ_AHEAD_LINES);
+        Thread reader = new Thread(() -> readInputs(System.in, inputs), "duke-input");
+        reader.setDaemon(true);
+        reader.start();
+        try {
+            while (!this.isTerminated) {
+                ParsedInput input = inputs.take();
+                if (input == END_OF_INPUT) {
+                    return;
+                }
+                getResponse(input);
             }
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Reads and parses the lines of a given stream ahead of their execution, until the end of the stream.
+     * The reading thread blocks while no line is available or enough lines are waiting to be executed.
+     *
+     * @param in The given stream.
+     * @param inputs The queue of parsed lines, which ends with END_OF_INPUT.
+     */
+    private static void readInputs(InputStream in, BlockingQueue<ParsedInput> inputs) {
+        try {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                String line = reader.readLine();
+                while (line != null) {
+                    inputs.put(ParsedInput.parse(line));
+                    line = reader.readLine();
+                }
+            } catch (IOException ioException) {
+                // an unreadable input ends the same way as a closed one
+            }
+            inputs.put(END_OF_INPUT);
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
         }
     }
 
@@ -61,20 +161,155 @@ public class Duke {
     }
 
     /**
-     * Executes a given Command.
+     * Executes a given Command, holding the read lock if the Command is read-only and the write lock otherwise.
      *
      * @param command The given Command.
      */
     public String execute(Command command) throws DukeRuntimeException {
-        TaskList oldTaskList = this.tasks.clone();
-        String result = command.execute(this);
-        TaskList newTaskList = this.tasks;
-        boolean isUnchangedTaskList = oldTaskList.equals(newTaskList);
-        boolean isUndoCommand = command.getAction().equals(Action.UNDO);
-        if (!isUnchangedTaskList && !isUndoCommand) {
-            taskListHistory.push(oldTaskList);
+        Lock heldLock = command.isReadOnly() ? this.lock.readLock() : this.lock.writeLock();
+        heldLock.lock();
+        try {
+            return command.execute(this);
+        } finally {
+            heldLock.unlock();
+        }
+    }
+
+    /**
+     * Applies a given Change to the TaskList and records it so that it can be undone.
+     * It is called by Commands, which hold the write lock.
+     *
+     * @param change The given Change.
+     * @return Whether the Change can be undone, which is false if it is too large for the history.
+     */
+    public boolean apply(Change change) throws DukeRuntimeException {
+        replay(change);
+        if (this.scriptChanges != null) {
+            this.scriptChanges.add(change);
+            return true;
+        }
+        return this.history.record(change);
+    }
+
+    /**
+     * Applies a given Change to the TaskList without recording it in the history, e.g. when undoing.
+     *
+     * @param change The given Change.
+     */
+    public void replay(Change change) throws DukeRuntimeException {
+        setTaskList(change.apply(this.tasks));
+        if (this.unsavedChanges != null) {
+            this.unsavedChanges.add(change);
+        }
+    }
+
+    /**
+     * Runs the commands in a given script file as one batch and returns the report.
+     * The whole script is parsed before any command is run. The Changes made by the script are recorded as
+     * one Change, so that a single undo reverts the whole script, and the TaskList is saved once at the end.
+     * Commands that fail are reported with their line numbers and do not stop the script, while [bye] does.
+     * The script holds the write lock throughout, so no other Command runs in the middle of it.
+     * If nothing has been loaded from or saved to Storage and no Task has been added yet, the stored TaskList is
+     * loaded first, so that saving at the end does not overwrite the stored Tasks with only those of the script.
+     * Otherwise the script runs on top of the TaskList in use, so that Tasks added in this session are kept.
+     *
+     * @param path The path of the script file.
+     * @return The report of the script.
+     * @throws DukeRuntimeException if the script file cannot be read or the TaskList cannot be saved.
+     */
+    public String runScript(Path path) throws DukeRuntimeException {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        } catch (IOException ioException) {
+            throw new ReadFileException(path, "Unable to read the script.");
+        }
+        long startTime = System.nanoTime();
+        ArrayList<String> failures = new ArrayList<>();
+        ArrayList<Command> commands = new ArrayList<>(lines.size());
+        ArrayList<Integer> lineNumbers = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) {
+                continue;
+            }
+            try {
+                commands.add(parseScriptCommand(lines.get(i)));
+                lineNumbers.add(i + 1);
+            } catch (DukeException dukeException) {
+                failures.add("Line " + (i + 1) + ": " + dukeException.getMessage());
+            }
         }
-        return result;
+        this.lock.writeLock().lock();
+        try {
+            if (this.unsavedChanges == null && this.tasks.size() == 0) {
+                execute(new ReadCommand());
+            }
+            int executedCount = 0;
+            this.scriptChanges = new ArrayList<>();
+            try {
+                for (int i = 0; i < commands.size(); i++) {
+                    Command command = commands.get(i);
+                    if (command.isTerminating()) {
+                        break;
+                    }
+                    executedCount++;
+                    if (command.getAction() == Action.SAVE) {
+                        continue;
+                    }
+                    try {
+                        execute(command);
+                    } catch (DukeException dukeException) {
+                        failures.add("Line " + lineNumbers.get(i) + ": " + dukeException.getMessage());
+                    }
+                }
+            } finally {
+                List<Change> changes = this.scriptChanges;
+                this.scriptChanges = null;
+                if (changes.size() == 1) {
+                    this.history.record(changes.get(0));
+                } else if (!changes.isEmpty()) {
+                    this.history.record(new CompositeChange(changes));
+                }
+            }
+            String saveResponse = execute(new SaveCommand());
+            return getScriptReport(path, executedCount, failures, System.nanoTime() - startTime)
+                    + System.lineSeparator() + saveResponse;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private Command parseScriptCommand(String entry) throws CompileException {
+        Command command = parse(entry);
+        switch (command.getAction()) {
+        case UNDO:
+        case REDO:
+        case RUN:
+            throw new InvalidArgumentException(command.getAction(), "The command cannot be used in a script.");
+        default:
+            return command;
+        }
+    }
+
+    private String getScriptReport(Path path, int executedCount, List<String> failures, long elapsedNanos) {
+        long nanosPerSecond = 1_000_000_000L;
+        long nanosPerMillisecond = 1_000_000L;
+        StringBuilder report = new StringBuilder("Ran ").append(executedCount).append(" commands from ")
+                .append(path).append(" in ").append(elapsedNanos / nanosPerMillisecond).append(" ms (")
+                .append(executedCount * nanosPerSecond / Math.max(1, elapsedNanos)).append(" commands/s).\n")
+                .append(failures.isEmpty() ? "All commands succeeded." : failures.size() + " commands failed:");
+        failures.stream().limit(MAX_REPORTED_FAILURES).forEach(failure -> report.append('\n').append(failure));
+        if (failures.size() > MAX_REPORTED_FAILURES) {
+            report.append("\n... and ").append(failures.size() - MAX_REPORTED_FAILURES).append(" more.");
+        }
+        return this.messagePrinter.getPrintMessage(report.toString());
+    }
+
+    /**
+     * Marks the TaskList as identical to the one in Storage.
+     */
+    public void markSaved() {
+        this.unsavedChanges = new ArrayList<>();
     }
 
     /**
@@ -93,28 +328,32 @@ public class Duke {
      * @return The response of Duke
      */
     public String getResponse(String input) {
+        return getResponse(ParsedInput.parse(input));
+    }
+
+    private String getResponse(ParsedInput input) {
         String responseIfTerminated = "...";
         String response = null;
         try {
             if (isTerminated) {
                 return responseIfTerminated;
             }
-            Scanner scanner = new Scanner(input);
-            if (scanner.hasNext()) {
-                String entry = scanner.nextLine();
-                Command command = parse(entry);
-                this.isTerminated = command.isTerminating();
-                response = execute(command);
+            if (input.exception != null) {
+                throw input.exception;
+            }
+            if (input.command != null) {
+                if (input.command.isTerminating()) {
+                    this.isTerminated = true;
+                }
+                response = execute(input.command);
             }
         } catch (DukeException dukeException) {
             response = handle(dukeException);
         }
-        this.messagePrinter.printInTerminal(input, response);
+        this.messagePrinter.printInTerminal(input.input, response);
         return response;
     }
 
-
-
     /**
      * Returns whether the Duke is running.
      * @return A boolean indicating whether the Duke is running.
@@ -131,15 +370,93 @@ public class Duke {
         return this.storage;
     }
 
+    /**
+     * Returns the TaskList in use. Commands read and change it under the lock held by execute, and other callers
+     * must not change it while Commands may run.
+     *
+     * @return The TaskList in use.
+     */
     public TaskList getTaskList() {
         return this.tasks;
     }
 
-    public Stack<TaskList> getTaskListHistory() {
-        return this.taskListHistory;
+    public History getHistory() {
+        return this.history;
+    }
+
+    /**
+     * Returns the Changes applied since the TaskList was last identical to the one in Storage.
+     * @return The unsaved Changes, or null if the TaskList has not been saved or read in this session.
+     */
+    public ArrayList<Change> getUnsavedChanges() {
+        return this.unsavedChanges;
     }
 
+    /**
+     * Replaces the TaskList in use under the write lock, moving the listeners over to it.
+     *
+     * @param taskList The new TaskList.
+     */
     public void setTaskList(TaskList taskList) {
-        this.tasks = taskList;
+        this.lock.writeLock().lock();
+        try {
+            if (taskList == this.tasks) {
+                return;
+            }
+            for (TaskListListener listener : taskListListeners) {
+                this.tasks.removeListener(listener);
+                taskList.addListener(listener);
+            }
+            this.tasks = taskList;
+            for (TaskListListener listener : taskListListeners) {
+                listener.onReplaced(taskList);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Registers a listener to follow the TaskList in use, including the ones replacing it later.
+     * The listener is notified of the current TaskList right away.
+     *
+     * @param listener The given listener.
+     */
+    public void addTaskListListener(TaskListListener listener) {
+        this.lock.writeLock().lock();
+        try {
+            taskListListeners.add(listener);
+            this.tasks.addListener(listener);
+            listener.onReplaced(this.tasks);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Represents a user input and the result of parsing its first line, which is done before it is executed.
+     */
+    private static final class ParsedInput {
+        private final String input;
+        private final Command command;
+        private final DukeException exception;
+
+        private ParsedInput(String input, Command command, DukeException exception) {
+            this.input = input;
+            this.command = command;
+            this.exception = exception;
+        }
+
+        private static ParsedInput parse(String input) {
+            Scanner scanner = new Scanner(input);
+            if (!scanner.hasNext()) {
+                return new ParsedInput(input, null, null);
+            }
+            try {
+                return new ParsedInput(input, Parser.parseCommand(scanner.nextLine()), null);
+            } catch (DukeException dukeException) {
+                return new ParsedInput(input, null, dukeException);
+            }
+        }
     }
 }
@@ -1,5 +1,6 @@
 package duke.command;
 
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Optional;
 
@@ -29,26 +30,31 @@ public enum Action {
     //    Level-9
     FIND,
     //    Extension
-    UNDO;
+    UNDO, REDO, HISTORY, RUN;
 
     /**
-     * The HashMap stores the standardFormat of an Action.
+     * The EnumMap stores the standardFormat of an Action.
      */
-    private static final HashMap<Action, String> actionFormatMap = new HashMap<>();
+    private static final EnumMap<Action, String> actionFormatMap = new EnumMap<>(Action.class);
 
     /**
-     * The HashMap stores the String representation of an Action.
+     * The EnumMap stores the String representation of an Action.
+     */
+    private static final EnumMap<Action, String> actionStringMap = new EnumMap<>(Action.class);
+
+    /**
+     * The HashMap stores the Action of each String representation, precomputed from actionStringMap.
      */
     private static final HashMap<String, Action> stringActionMap = new HashMap<>();
 
     static {
-        HashMap<Action, String> map = actionFormatMap;
+        EnumMap<Action, String> map = actionFormatMap;
         map.put(Action.DO_NOTHING, "");
         //        Level_1
         map.put(Action.GREET, "greet");
         map.put(Action.EXIT, "bye");
         //        Level_2
-        map.put(Action.LIST, "list");
+        map.put(Action.LIST, "list [ID of first task]-[ID of last task] or list --page [page]");
         //        Level_3
         map.put(Action.MARK, "mark [ID of task]");
         map.put(Action.UNMARK, "unmark [ID of task]");
@@ -69,34 +75,41 @@ public enum Action {
         map.put(Action.FIND, "find [keyword]");
         //        Extension
         map.put(Action.UNDO, "undo");
+        map.put(Action.REDO, "redo");
+        map.put(Action.HISTORY, "history");
+        map.put(Action.RUN, "run [path of script]");
     }
 
     static {
-        HashMap<String, Action> map = stringActionMap;
-        map.put("", Action.DO_NOTHING);
+        EnumMap<Action, String> map = actionStringMap;
+        map.put(Action.DO_NOTHING, "");
         //        Level_1
-        map.put("greet", Action.GREET);
-        map.put("bye", Action.EXIT);
+        map.put(Action.GREET, "greet");
+        map.put(Action.EXIT, "bye");
         //        Level_2
-        map.put("list", Action.LIST);
+        map.put(Action.LIST, "list");
         //        Level_3
-        map.put("mark", Action.MARK);
-        map.put("unmark", Action.UNMARK);
+        map.put(Action.MARK, "mark");
+        map.put(Action.UNMARK, "unmark");
         //        Level_4
-        map.put("todo", Action.TODO);
-        map.put("event", Action.EVENT);
-        map.put("deadline", Action.DEADLINE);
+        map.put(Action.TODO, "todo");
+        map.put(Action.EVENT, "event");
+        map.put(Action.DEADLINE, "deadline");
         //        Level_5
         //        No Action is added.
         //        Level_6
-        map.put("delete", Action.DELETE);
+        map.put(Action.DELETE, "delete");
         //        Level_7
-        map.put("save", Action.SAVE);
-        map.put("read", Action.READ);
+        map.put(Action.SAVE, "save");
+        map.put(Action.READ, "read");
         //        Level_9
-        map.put("find", Action.FIND);
+        map.put(Action.FIND, "find");
         //        Extension
-        map.put("undo", Action.UNDO);
+        map.put(Action.UNDO, "undo");
+        map.put(Action.REDO, "redo");
+        map.put(Action.HISTORY, "history");
+        map.put(Action.RUN, "run");
+        map.forEach((action, string) -> stringActionMap.put(string, action));
     }
 
     /**
@@ -105,10 +118,7 @@ public enum Action {
      * @return The String representation of an Action.
      */
     public static String convertToString(Action action) {
-        return stringActionMap.entrySet().stream()
-                .filter(m -> m.getValue().equals(action))
-                .map(m -> m.getKey())
-                .reduce("", (x, y) -> x.equals("") ? y : x);
+        return actionStringMap.getOrDefault(action, "");
     }
 
     /**
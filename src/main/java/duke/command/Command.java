@@ -1,6 +1,10 @@
 package duke.command;
 
 import duke.Duke;
+import duke.exception.CompileException;
+import duke.exception.InvalidArgumentException;
+import duke.exception.NoArgumentException;
+import duke.util.CommandLexer;
 
 /**
  * Represents a Command to be executed by Duke.
@@ -32,6 +36,16 @@ public abstract class Command {
      */
     public abstract boolean isTerminating();
 
+    /**
+     * Returns whether this command only reads the state of Duke. Duke runs read-only Commands at the same time
+     * as each other, and every other Command alone, so a Command that changes the TaskList, the History, the
+     * Storage or any other state of Duke must not override this.
+     * @return The boolean indicating whether this command only reads the state of Duke.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
     /**
      * Returns the Action to be done by the Command.
      * @return The Action to be done by the Command.
@@ -39,4 +53,21 @@ public abstract class Command {
     public Action getAction() {
         return this.action;
     }
+
+    /**
+     * Returns the integer argument of a Command that refers to a Task by its ID.
+     * @param lexer The tokens of the user input.
+     * @param action The Action of the Command.
+     * @return The integer argument.
+     * @throws CompileException if the argument is missing or not an integer.
+     */
+    protected static int parseIndexArgument(CommandLexer lexer, Action action) throws CompileException {
+        if (!lexer.hasIntArguments()) {
+            if (lexer.getArguments().equals("")) {
+                throw new NoArgumentException(action);
+            }
+            throw new InvalidArgumentException(action, "The argument should be an integer.");
+        }
+        return lexer.getIntArguments();
+    }
 }
@@ -3,9 +3,17 @@ package duke.command;
 import java.time.LocalDateTime;
 
 import duke.Duke;
+import duke.exception.CompileException;
+import duke.exception.InvalidArgumentException;
+import duke.exception.NoArgumentException;
+import duke.history.AddChange;
 import duke.task.Deadline;
 import duke.task.Task;
+import duke.util.CommandLexer;
+import duke.util.CommandRegistry;
+import duke.util.DateTimeCodec;
 import duke.util.MessagePrinter;
+import duke.util.Parser;
 import duke.util.TaskList;
 
 /**
@@ -43,9 +51,57 @@ public class DeadlineCommand extends AddCommand {
         MessagePrinter messagePrinter = duke.getMessagePrinter();
         String successMsg = "Got it. I've added this task:";
         Task deadline = new Deadline(msg, time);
-        taskList.add(deadline);
+        duke.apply(new AddChange(taskList.size(), deadline));
         successMsg = successMsg + "\n" + deadline + "\n"
                 + "Now you have " + taskList.size() + " tasks in the list.";
         return messagePrinter.getPrintMessage(successMsg);
     }
+
+    /**
+     * Returns the DeadlineCommand represented by the tokens of a user input.
+     * @param lexer The tokens of the user input.
+     * @return The DeadlineCommand.
+     * @throws CompileException if the user input is not in correct format.
+     */
+    public static DeadlineCommand parse(CommandLexer lexer) throws CompileException {
+        String arg1;
+        String arg2;
+        String symbolDeadline = "/by";
+        Action action = Action.DEADLINE;
+        int flagIndex = lexer.indexOfFlag(symbolDeadline);
+        if (flagIndex < 0) {
+            throw new InvalidArgumentException(action, "Keyword: [ "
+                    + symbolDeadline + " ] or [Time] is not found.");
+        }
+        arg1 = lexer.getArgumentsBefore(flagIndex);
+        arg2 = lexer.getFlagValue(flagIndex);
+        LocalDateTime time = DateTimeCodec.tryParse(arg2);
+
+        if (arg1.equals("") && arg2.equals("")) {
+            throw new NoArgumentException(action);
+        } else if (!Parser.isValidString(arg1)) {
+            throw new InvalidArgumentException(action,
+                    "Deadline [Name] is not found.");
+        } else if (time == null) {
+            throw new InvalidArgumentException(action,
+                    "Deadline [Time] is not found.");
+        }
+
+        return new DeadlineCommand(arg1, time);
+    }
+
+    /**
+     * Registers the DeadlineCommand under its command word.
+     */
+    public static final class Provider implements CommandRegistry.CommandProvider {
+        @Override
+        public Action getAction() {
+            return Action.DEADLINE;
+        }
+
+        @Override
+        public Command create(CommandLexer lexer) throws CompileException {
+            return parse(lexer);
+        }
+    }
 }
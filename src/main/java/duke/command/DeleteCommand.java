@@ -1,7 +1,11 @@
 package duke.command;
 
 import duke.Duke;
+import duke.exception.CompileException;
+import duke.history.RemoveChange;
 import duke.task.Task;
+import duke.util.CommandLexer;
+import duke.util.CommandRegistry;
 import duke.util.MessagePrinter;
 import duke.util.TaskList;
 
@@ -38,7 +42,8 @@ public class DeleteCommand extends Command {
         TaskList taskList = duke.getTaskList();
         MessagePrinter messagePrinter = duke.getMessagePrinter();
         String successMsg = "Noted. I've removed this task:";
-        Task task = taskList.remove(idTask - 1);
+        Task task = taskList.get(idTask - 1);
+        duke.apply(new RemoveChange(idTask - 1, task));
         successMsg = successMsg + "\n" + task + "\n"
                 + "Now you have " + taskList.size() + " tasks in the list.";
         return messagePrinter.getPrintMessage(successMsg);
@@ -52,4 +57,29 @@ public class DeleteCommand extends Command {
     public boolean isTerminating() {
         return false;
     }
+
+    /**
+     * Returns the DeleteCommand represented by the tokens of a user input.
+     * @param lexer The tokens of the user input.
+     * @return The DeleteCommand.
+     * @throws CompileException if the user input is not in correct format.
+     */
+    public static DeleteCommand parse(CommandLexer lexer) throws CompileException {
+        return new DeleteCommand(parseIndexArgument(lexer, Action.DELETE));
+    }
+
+    /**
+     * Registers the DeleteCommand under its command word.
+     */
+    public static final class Provider implements CommandRegistry.CommandProvider {
+        @Override
+        public Action getAction() {
+            return Action.DELETE;
+        }
+
+        @Override
+        public Command create(CommandLexer lexer) throws CompileException {
+            return parse(lexer);
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package duke.command;
 
 import duke.Duke;
+import duke.util.CommandLexer;
+import duke.util.CommandRegistry;
 
 /**
  * Represents a Command to do nothing in Duke.
@@ -32,5 +34,28 @@ public class DoNothingCommand extends Command {
     public boolean isTerminating() {
         return false;
     }
-}
 
+    /**
+     * Returns whether this command only reads the state of Duke.
+     * @return Returns true, as the command does not change Duke.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    /**
+     * Registers the DoNothingCommand under its command word.
+     */
+    public static final class Provider implements CommandRegistry.CommandProvider {
+        @Override
+        public Action getAction() {
+            return Action.DO_NOTHING;
+        }
+
+        @Override
+        public Command create(CommandLexer lexer) {
+            return new DoNothingCommand();
+        }
+    }
+}
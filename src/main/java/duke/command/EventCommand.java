@@ -3,9 +3,17 @@ package duke.command;
 import java.time.LocalDateTime;
 
 import duke.Duke;
+import duke.exception.CompileException;
+import duke.exception.InvalidArgumentException;
+import duke.exception.NoArgumentException;
+import duke.history.AddChange;
 import duke.task.Event;
 import duke.task.Task;
+import duke.util.CommandLexer;
+import duke.util.CommandRegistry;
+import duke.util.DateTimeCodec;
 import duke.util.MessagePrinter;
+import duke.util.Parser;
 import duke.util.TaskList;
 
 /**
@@ -43,9 +51,55 @@ public class EventCommand extends AddCommand {
         MessagePrinter messagePrinter = duke.getMessagePrinter();
         String successMsg = "Got it. I've added this task:";
         Task event = new Event(msg, time);
-        taskList.add(event);
+        duke.apply(new AddChange(taskList.size(), event));
         successMsg = successMsg + "\n" + event + "\n"
                 + "Now you have " + taskList.size() + " tasks in the list.";
         return messagePrinter.getPrintMessage(successMsg);
     }
+
+    /**
+     * Returns the EventCommand represented by the tokens of a user input.
+     * @param lexer The tokens of the user input.
+     * @return The EventCommand.
+     * @throws CompileException if the user input is not in correct format.
+     */
+    public static EventCommand parse(CommandLexer lexer) throws CompileException {
+        String symbolEvent = "/at";
+        String arg1;
+        String arg2;
+        Action action = Action.EVENT;
+        int flagIndex = lexer.indexOfFlag(symbolEvent);
+        if (flagIndex < 0) {
+            throw new InvalidArgumentException(action, "Keyword: [ "
+                    + symbolEvent + " ] or [Time] is not found.");
+        }
+        arg1 = lexer.getArgumentsBefore(flagIndex);
+        arg2 = lexer.getFlagValue(flagIndex);
+        LocalDateTime time = DateTimeCodec.tryParse(arg2);
+        if (arg1.equals("") && arg2.equals("")) {
+            throw new NoArgumentException(action);
+        } else if (!Parser.isValidString(arg1)) {
+            throw new InvalidArgumentException(action,
+                    "Event [Name] is not found.");
+        } else if (time == null) {
+            throw new InvalidArgumentException(action,
+                    "Event [Time] is not found.");
+        }
+        return new EventCommand(arg1, time);
+    }
+
+    /**
+     * Registers the EventCommand under its command word.
+     */
+    public static final class Provider implements CommandRegistry.CommandProvider {
+        @Override
+        public Action getAction() {
+            return Action.EVENT;
+        }
+
+        @Override
+        public Command create(CommandLexer lexer) throws CompileException {
+            return parse(lexer);
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package duke.command;
 
 import duke.Duke;
+import duke.util.CommandLexer;
+import duke.util.CommandRegistry;
 import duke.util.MessagePrinter;
 
 /**
@@ -34,4 +36,19 @@ public class ExitCommand extends Command {
     public boolean isTerminating() {
         return true;
     }
+
+    /**
+     * Registers the ExitCommand under its command word.
+     */
+    public static final class Provider implements CommandRegistry.CommandProvider {
+        @Override
+        public Action getAction() {
+            return Action.EXIT;
+        }
+
+        @Override
+        public Command create(CommandLexer lexer) {
+            return new ExitCommand();
+        }
+    }
 }
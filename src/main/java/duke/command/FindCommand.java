@@ -1,10 +1,16 @@
 package duke.command;
 
-import java.util.stream.Stream;
+import java.util.List;
 
 import duke.Duke;
+import duke.exception.CompileException;
+import duke.exception.InvalidArgumentException;
+import duke.exception.NoArgumentException;
+import duke.task.Task;
+import duke.util.CommandLexer;
+import duke.util.CommandRegistry;
 import duke.util.MessagePrinter;
-import duke.util.TaskList;
+import duke.util.Parser;
 
 /**
  * Represents a Command to find Tasks with given information.
@@ -36,20 +42,16 @@ public class FindCommand extends Command {
      */
     @Override
     public String execute(Duke duke) {
-        TaskList tasks = duke.getTaskList();
+        List<Task> matches = duke.getTaskList().find(this.target);
         MessagePrinter messagePrinter = duke.getMessagePrinter();
-        String message = "Here are the matching tasks in your list:\n";
-        TaskList temp = new TaskList();
-        Stream.iterate(0, x -> x + 1).limit(tasks.size())
-                .map(i -> tasks.get(i))
-                .filter(task -> task.getName().contains(this.target))
-                .forEach(task -> temp.add(task));
-        if (temp.size() == 0) {
-            message = "Currently no matching tasks in the list.";
-        } else {
-            message = message + temp.toString();
+        if (matches.isEmpty()) {
+            return messagePrinter.getPrintMessage("Currently no matching tasks in the list.");
         }
-        return messagePrinter.getPrintMessage(message);
+        StringBuilder message = new StringBuilder("Here are the matching tasks in your list:\n");
+        for (int i = 0; i < matches.size(); i++) {
+            message.append(i + 1).append(". ").append(matches.get(i)).append('\n');
+        }
+        return messagePrinter.getPrintMessage(message.toString());
     }
 
     /**
@@ -60,4 +62,46 @@ public class FindCommand extends Command {
     public boolean isTerminating() {
         return false;
     }
+
+    /**
+     * Returns whether this command only reads the state of Duke.
+     * @return Returns true, as the command does not change Duke.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    /**
+     * Returns the FindCommand represented by the tokens of a user input.
+     * @param lexer The tokens of the user input.
+     * @return The FindCommand.
+     * @throws CompileException if the user input is not in correct format.
+     */
+    public static FindCommand parse(CommandLexer lexer) throws CompileException {
+        String arg1;
+        Action action = Action.FIND;
+        arg1 = lexer.getArguments();
+        if (arg1.equals("")) {
+            throw new NoArgumentException(action);
+        } else if (!Parser.isValidString(arg1)) {
+            throw new InvalidArgumentException(action, "The argument should be a String.");
+        }
+        return new FindCommand(arg1);
+    }
+
+    /**
+     * Registers the FindCommand under its command word.
+     */
+    public static final class Provider implements CommandRegistry.CommandProvider {
+        @Override
+        public Action getAction() {
+            return Action.FIND;
+        }
+
+        @Override
+        public Command create(CommandLexer lexer) throws CompileException {
+            return parse(lexer);
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package duke.command;
 
 import duke.Duke;
+import duke.util.CommandLexer;
+import duke.util.CommandRegistry;
 import duke.util.MessagePrinter;
 
 /**
@@ -39,4 +41,28 @@ public class GreetCommand extends Command {
     public boolean isTerminating() {
         return false;
     }
+
+    /**
+     * Returns whether this command only reads the state of Duke.
+     * @return Returns true, as the command does not change Duke.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    /**
+     * Registers the GreetCommand under its command word.
+     */
+    public static final class Provider implements CommandRegistry.CommandProvider {
+        @Override
+        public Action getAction() {
+            return Action.GREET;
+        }
+
+        @Override
+        public Command create(CommandLexer lexer) {
+            return new GreetCommand();
+        }
+    }
 }
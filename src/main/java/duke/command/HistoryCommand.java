@@ -0,0 +1,69 @@
+package duke.command;
+
+import duke.Duke;
+import duke.history.History;
+import duke.util.CommandLexer;
+import duke.util.CommandRegistry;
+import duke.util.MessagePrinter;
+
+/**
+ * Represents a Command to show the size of the undo and redo history in Duke.
+ */
+public class HistoryCommand extends Command {
+    /**
+     * Constructs the class.
+     */
+    public HistoryCommand() {
+        super(Action.HISTORY);
+    }
+
+    /**
+     * Executes the Command with given Duke.
+     * @param duke The target duke that the command takes effect.
+     * @return The response of Duke.
+     */
+    @Override
+    public String execute(Duke duke) {
+        History history = duke.getHistory();
+        MessagePrinter messagePrinter = duke.getMessagePrinter();
+        int bytesPerKilobyte = 1024;
+        return messagePrinter.getPrintMessage("Changes that can be undone: " + history.getUndoSize()
+                + " (" + history.getSpilledSize() + " kept on disk)\n"
+                + "Changes that can be redone: " + history.getRedoSize() + "\n"
+                + "Estimated memory in use: " + (history.getEstimatedBytes() + bytesPerKilobyte - 1) / bytesPerKilobyte
+                + " KB");
+    }
+
+    /**
+     * Returns whether this command terminates Duke.
+     * @return Returns whether this command terminates Duke.
+     */
+    @Override
+    public boolean isTerminating() {
+        return false;
+    }
+
+    /**
+     * Returns whether this command only reads the state of Duke.
+     * @return Returns true, as the command does not change Duke.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    /**
+     * Registers the HistoryCommand under its command word.
+     */
+    public static final class Provider implements CommandRegistry.CommandProvider {
+        @Override
+        public Action getAction() {
+            return Action.HISTORY;
+        }
+
+        @Override
+        public Command create(CommandLexer lexer) {
+            return new HistoryCommand();
+        }
+    }
+}
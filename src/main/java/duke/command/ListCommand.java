@@ -1,36 +1,118 @@
 package duke.command;
 
+import java.util.Iterator;
+
 import duke.Duke;
+import duke.exception.CompileException;
+import duke.exception.InvalidArgumentException;
+import duke.exception.TaskNotFoundException;
+import duke.task.Task;
+import duke.util.CommandLexer;
+import duke.util.CommandRegistry;
 import duke.util.MessagePrinter;
 import duke.util.TaskList;
 
 /**
- * Represents a Command to list all Tasks in Duke.
+ * Represents a Command to list all Tasks in Duke, or the Tasks in a range or on a page of the list.
+ * The rows are written one by one into the response, so that no intermediate copy of the listing is made.
  */
 public class ListCommand extends Command {
     /**
-     * Constructs the class.
+     * The number of Tasks on a page of the list.
+     */
+    public static final int PAGE_SIZE = 50;
+
+    private static final int ESTIMATED_ROW_LENGTH = 48;
+
+    private final int firstId;
+    private final int lastId;
+    private final int page;
+
+    /**
+     * Constructs the Command listing all Tasks.
      */
     public ListCommand() {
+        this(1, Integer.MAX_VALUE, 0);
+    }
+
+    /**
+     * Constructs the Command listing the Tasks with IDs in the given range. Tasks past the end of the list are
+     * left out.
+     * @param firstId The ID of the first Task, starting from 1.
+     * @param lastId The ID of the last Task, not less than the first one.
+     */
+    public ListCommand(int firstId, int lastId) {
+        this(firstId, lastId, 0);
+    }
+
+    /**
+     * Constructs the Command listing the Tasks on the given page.
+     * @param page The page, starting from 1.
+     */
+    public ListCommand(int page) {
+        this((page - 1) * PAGE_SIZE + 1, page * PAGE_SIZE, page);
+    }
+
+    private ListCommand(int firstId, int lastId, int page) {
         super(Action.LIST);
+        this.firstId = firstId;
+        this.lastId = lastId;
+        this.page = page;
+    }
+
+    public int getFirstId() {
+        return firstId;
+    }
+
+    public int getLastId() {
+        return lastId;
+    }
+
+    public int getPage() {
+        return page;
     }
 
     /**
      * Executes the Command with given Duke.
      * @param duke The target duke that the command takes effect.
      * @return The response of Duke.
+     * @throws TaskNotFoundException if the range starts after the end of the list.
      */
     @Override
     public String execute(Duke duke) {
         TaskList taskList = duke.getTaskList();
         MessagePrinter messagePrinter = duke.getMessagePrinter();
-        String message = "Here are the tasks in your list:\n";
-        if (taskList.size() == 0) {
-            message = "Currently no tasks in the list.";
+        int size = taskList.size();
+        if (size == 0) {
+            return messagePrinter.getPrintMessage("Currently no tasks in the list.");
+        }
+        if (firstId > size) {
+            throw new TaskNotFoundException(firstId);
+        }
+        int first = firstId - 1;
+        int last = Math.min(lastId, size);
+        boolean isWholeList = first == 0 && last == size;
+
+        StringBuilder builder = new StringBuilder((last - first + 3) * ESTIMATED_ROW_LENGTH);
+        messagePrinter.beginFrame(builder);
+        if (isWholeList && page == 0) {
+            messagePrinter.appendLine(builder, "Here are the tasks in your list:");
         } else {
-            message = message + taskList;
+            StringBuilder header = new StringBuilder("Here are tasks ").append(firstId).append(" to ").append(last)
+                    .append(" of ").append(size).append(" in your list");
+            if (page > 0) {
+                header.append(" (page ").append(page).append(" of ").append((size - 1) / PAGE_SIZE + 1).append(')');
+            }
+            messagePrinter.appendLine(builder, header.append(':'));
         }
-        return messagePrinter.getPrintMessage(message);
+        StringBuilder row = new StringBuilder();
+        Iterator<Task> iterator = isWholeList ? taskList.iterator() : null;
+        for (int i = first; i < last; i++) {
+            Task task = iterator != null ? iterator.next() : taskList.get(i);
+            row.setLength(0);
+            messagePrinter.appendLine(builder, row.append(i + 1).append(". ").append(task));
+        }
+        return messagePrinter.endFrame(builder).toString();
     }
 
     /**
@@ -41,4 +123,64 @@ public class ListCommand extends Command {
     public boolean isTerminating() {
         return false;
     }
+
+    /**
+     * Returns whether this command only reads the state of Duke.
+     * @return Returns true, as the command does not change Duke.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    /**
+     * Returns the ListCommand represented by the tokens of a user input.
+     * @param lexer The tokens of the user input.
+     * @return The ListCommand.
+     * @throws CompileException if the user input is not in correct format.
+     */
+    public static ListCommand parse(CommandLexer lexer) throws CompileException {
+        String pageOption = "--page";
+        Action action = Action.LIST;
+        String arg1 = lexer.getArguments();
+        if (arg1.equals("")) {
+            return new ListCommand();
+        }
+        try {
+            if (arg1.startsWith(pageOption)) {
+                int page = Integer.parseInt(arg1.substring(pageOption.length()).strip());
+                if (page < 1 || page > Integer.MAX_VALUE / ListCommand.PAGE_SIZE) {
+                    throw new InvalidArgumentException(action, "The page should be a positive integer.");
+                }
+                return new ListCommand(page);
+            }
+            int separator = arg1.indexOf('-');
+            if (separator >= 0) {
+                int firstId = Integer.parseInt(arg1.substring(0, separator).strip());
+                int lastId = Integer.parseInt(arg1.substring(separator + 1).strip());
+                if (firstId >= 1 && firstId <= lastId) {
+                    return new ListCommand(firstId, lastId);
+                }
+            }
+        } catch (NumberFormatException exception) {
+            // Reported below with the expected format.
+        }
+        throw new InvalidArgumentException(action,
+                "The argument should be a range of task IDs such as 1-10, or a page such as --page 2.");
+    }
+
+    /**
+     * Registers the ListCommand under its command word.
+     */
+    public static final class Provider implements CommandRegistry.CommandProvider {
+        @Override
+        public Action getAction() {
+            return Action.LIST;
+        }
+
+        @Override
+        public Command create(CommandLexer lexer) throws CompileException {
+            return parse(lexer);
+        }
+    }
 }
@@ -1,8 +1,10 @@
 package duke.command;
 
 import duke.Duke;
+import duke.history.ReplaceChange;
+import duke.util.CommandLexer;
+import duke.util.CommandRegistry;
 import duke.util.MessagePrinter;
-import duke.util.Parser;
 import duke.util.Storage;
 import duke.util.TaskList;
 
@@ -26,11 +28,14 @@ public class ReadCommand extends Command {
     public String execute(Duke duke) {
         MessagePrinter messagePrinter = duke.getMessagePrinter();
         Storage storage = duke.getStorage();
-        TaskList newTaskList = Parser.parseTaskList(storage.read());
-        duke.setTaskList(newTaskList);
+        TaskList oldTaskList = duke.getTaskList();
+        TaskList newTaskList = storage.readTaskList();
+        boolean canUndo = oldTaskList.equals(newTaskList) || duke.apply(new ReplaceChange(oldTaskList, newTaskList));
+        duke.markSaved();
         int size = newTaskList.size();
         String temp = size == 1 ? "task has" : "tasks have";
         return messagePrinter.getPrintMessage("Your " + size + " " + temp + " been loaded successfully\n"
+                + (canUndo ? "" : "The TaskList is too large for this to be undone\n")
                 + "Type [list] to view your tasks");
     }
 
@@ -42,4 +47,19 @@ public class ReadCommand extends Command {
     public boolean isTerminating() {
         return false;
     }
+
+    /**
+     * Registers the ReadCommand under its command word.
+     */
+    public static final class Provider implements CommandRegistry.CommandProvider {
+        @Override
+        public Action getAction() {
+            return Action.READ;
+        }
+
+        @Override
+        public Command create(CommandLexer lexer) {
+            return new ReadCommand();
+        }
+    }
 }
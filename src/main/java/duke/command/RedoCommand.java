@@ -0,0 +1,65 @@
+package duke.command;
+
+import duke.Duke;
+import duke.exception.DukeRuntimeException;
+import duke.history.Change;
+import duke.history.History;
+import duke.util.CommandLexer;
+import duke.util.CommandRegistry;
+import duke.util.MessagePrinter;
+
+/**
+ * Represents a Command to redo the change reverted by the last undo in Duke.
+ */
+public class RedoCommand extends Command {
+    /**
+     * Constructs the class.
+     */
+    public RedoCommand() {
+        super(Action.REDO);
+    }
+
+    /**
+     * Executes the Command with given Duke.
+     * @param duke The target duke that the command takes effect.
+     * @return The response of Duke.
+     */
+    @Override
+    public String execute(Duke duke) {
+        History history = duke.getHistory();
+        MessagePrinter messagePrinter = duke.getMessagePrinter();
+        Change lastChange = history.peekRedo();
+        if (lastChange == null) {
+            throw new DukeRuntimeException("No more change to the task list can be redone.");
+        }
+        // the Change is only moved once it has been replayed, so a failed replay leaves the history as it was
+        duke.replay(lastChange);
+        history.redo();
+        return messagePrinter.getPrintMessage("Successfully redo last undone modification to the TaskList.\n"
+                + "Type [list] to view current Tasks");
+    }
+
+    /**
+     * Returns whether this command terminates Duke.
+     * @return Returns whether this command terminates Duke.
+     */
+    @Override
+    public boolean isTerminating() {
+        return false;
+    }
+
+    /**
+     * Registers the RedoCommand under its command word.
+     */
+    public static final class Provider implements CommandRegistry.CommandProvider {
+        @Override
+        public Action getAction() {
+            return Action.REDO;
+        }
+
+        @Override
+        public Command create(CommandLexer lexer) {
+            return new RedoCommand();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package duke.command;
+
+import java.nio.file.Paths;
+
+import duke.Duke;
+import duke.exception.CompileException;
+import duke.exception.NoArgumentException;
+import duke.util.CommandLexer;
+import duke.util.CommandRegistry;
+
+/**
+ * Represents a Command to run the commands in a script file as one batch in Duke.
+ */
+public class RunCommand extends Command {
+    private final String path;
+
+    /**
+     * Constructs the class.
+     * @param path The path of the script file.
+     */
+    public RunCommand(String path) {
+        super(Action.RUN);
+        this.path = path;
+    }
+
+    /**
+     * Returns the path of the script file.
+     * @return The path of the script file.
+     */
+    public String getPath() {
+        return this.path;
+    }
+
+    /**
+     * Executes the Command with given Duke.
+     * @param duke The target duke that the command takes effect.
+     * @return The response of Duke.
+     */
+    @Override
+    public String execute(Duke duke) {
+        return duke.runScript(Paths.get(this.path));
+    }
+
+    /**
+     * Returns whether this command terminates Duke.
+     * @return Returns whether this command terminates Duke.
+     */
+    @Override
+    public boolean isTerminating() {
+        return false;
+    }
+
+    /**
+     * Returns the RunCommand represented by the tokens of a user input.
+     * @param lexer The tokens of the user input.
+     * @return The RunCommand.
+     * @throws CompileException if the user input is not in correct format.
+     */
+    public static RunCommand parse(CommandLexer lexer) throws CompileException {
+        String arg1 = lexer.getArguments();
+        if (arg1.equals("")) {
+            throw new NoArgumentException(Action.RUN);
+        }
+        return new RunCommand(arg1);
+    }
+
+    /**
+     * Registers the RunCommand under its command word.
+     */
+    public static final class Provider implements CommandRegistry.CommandProvider {
+        @Override
+        public Action getAction() {
+            return Action.RUN;
+        }
+
+        @Override
+        public Command create(CommandLexer lexer) throws CompileException {
+            return parse(lexer);
+        }
+    }
+}
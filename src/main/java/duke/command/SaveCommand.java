@@ -1,6 +1,13 @@
 package duke.command;
 
+import java.util.ArrayList;
+
 import duke.Duke;
+import duke.history.Change;
+import duke.history.CompositeChange;
+import duke.history.ReplaceChange;
+import duke.util.CommandLexer;
+import duke.util.CommandRegistry;
 import duke.util.MessagePrinter;
 import duke.util.Storage;
 import duke.util.TaskList;
@@ -26,7 +33,18 @@ public class SaveCommand extends Command {
         TaskList taskList = duke.getTaskList();
         MessagePrinter messagePrinter = duke.getMessagePrinter();
         Storage storage = duke.getStorage();
-        storage.write(taskList);
+        ArrayList<Change> unsavedChanges = duke.getUnsavedChanges();
+        // the journal holds one Change per line, so Changes spanning several lines are saved by a checkpoint
+        boolean canAppend = unsavedChanges != null
+                && unsavedChanges.stream().noneMatch(change -> change instanceof ReplaceChange
+                        || change instanceof CompositeChange)
+                && !storage.isCheckpointDue();
+        if (canAppend) {
+            storage.append(unsavedChanges);
+        } else {
+            storage.checkpoint(taskList);
+        }
+        duke.markSaved();
         int size = taskList.size();
         String temp = size == 1 ? "task has" : "tasks have";
         return messagePrinter.getPrintMessage("Your " + size + " " + temp + " been saved successfully");
@@ -40,4 +58,19 @@ public class SaveCommand extends Command {
     public boolean isTerminating() {
         return false;
     }
+
+    /**
+     * Registers the SaveCommand under its command word.
+     */
+    public static final class Provider implements CommandRegistry.CommandProvider {
+        @Override
+        public Action getAction() {
+            return Action.SAVE;
+        }
+
+        @Override
+        public Command create(CommandLexer lexer) {
+            return new SaveCommand();
+        }
+    }
 }
@@ -1,9 +1,16 @@
 package duke.command;
 
 import duke.Duke;
+import duke.exception.CompileException;
+import duke.exception.InvalidArgumentException;
+import duke.exception.NoArgumentException;
+import duke.history.AddChange;
 import duke.task.Task;
 import duke.task.Todo;
+import duke.util.CommandLexer;
+import duke.util.CommandRegistry;
 import duke.util.MessagePrinter;
+import duke.util.Parser;
 import duke.util.TaskList;
 
 /**
@@ -29,9 +36,42 @@ public class TodoCommand extends AddCommand {
         String msg = this.msg;
         String successMsg = "Got it. I've added this Task:";
         Task todo = new Todo(msg);
-        taskList.add(todo);
+        duke.apply(new AddChange(taskList.size(), todo));
         successMsg = successMsg + "\n" + todo + "\n"
                 + "Now you have " + taskList.size() + " tasks in the list.";
         return messagePrinter.getPrintMessage(successMsg);
     }
+
+    /**
+     * Returns the TodoCommand represented by the tokens of a user input.
+     * @param lexer The tokens of the user input.
+     * @return The TodoCommand.
+     * @throws CompileException if the user input is not in correct format.
+     */
+    public static TodoCommand parse(CommandLexer lexer) throws CompileException {
+        String arg1;
+        Action action = Action.TODO;
+        arg1 = lexer.getArguments();
+        if (arg1.equals("")) {
+            throw new NoArgumentException(action);
+        } else if (!Parser.isValidString(arg1)) {
+            throw new InvalidArgumentException(action, "Todo details should not contain '}'.");
+        }
+        return new TodoCommand(arg1);
+    }
+
+    /**
+     * Registers the TodoCommand under its command word.
+     */
+    public static final class Provider implements CommandRegistry.CommandProvider {
+        @Override
+        public Action getAction() {
+            return Action.TODO;
+        }
+
+        @Override
+        public Command create(CommandLexer lexer) throws CompileException {
+            return parse(lexer);
+        }
+    }
 }
@@ -1,11 +1,12 @@
 package duke.command;
 
-import java.util.Stack;
-
 import duke.Duke;
 import duke.exception.DukeRuntimeException;
+import duke.history.Change;
+import duke.history.History;
+import duke.util.CommandLexer;
+import duke.util.CommandRegistry;
 import duke.util.MessagePrinter;
-import duke.util.TaskList;
 
 /**
  * Represents a Command to revert the command executed in Duke.
@@ -25,13 +26,15 @@ public class UndoCommand extends Command {
      */
     @Override
     public String execute(Duke duke) {
-        Stack<TaskList> taskListHistory = duke.getTaskListHistory();
+        History history = duke.getHistory();
         MessagePrinter messagePrinter = duke.getMessagePrinter();
-        if (taskListHistory.size() < 1) {
+        Change lastChange = history.peekUndo();
+        if (lastChange == null) {
             throw new DukeRuntimeException("No more change to the task list can be undone.");
         }
-        TaskList lastStage = taskListHistory.pop();
-        duke.setTaskList(lastStage);
+        // the Change is only moved once it has been replayed, so a failed replay leaves the history as it was
+        duke.replay(lastChange.invert());
+        history.undo();
         return messagePrinter.getPrintMessage("Successfully undo last modification to the TaskList.\n"
                 + "Type [list] to view current Tasks");
     }
@@ -44,4 +47,19 @@ public class UndoCommand extends Command {
     public boolean isTerminating() {
         return false;
     }
+
+    /**
+     * Registers the UndoCommand under its command word.
+     */
+    public static final class Provider implements CommandRegistry.CommandProvider {
+        @Override
+        public Action getAction() {
+            return Action.UNDO;
+        }
+
+        @Override
+        public Command create(CommandLexer lexer) {
+            return new UndoCommand();
+        }
+    }
 }
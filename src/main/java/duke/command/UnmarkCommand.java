@@ -1,7 +1,11 @@
 package duke.command;
 
 import duke.Duke;
+import duke.exception.CompileException;
+import duke.history.MarkChange;
 import duke.task.Task;
+import duke.util.CommandLexer;
+import duke.util.CommandRegistry;
 import duke.util.MessagePrinter;
 import duke.util.TaskList;
 
@@ -38,8 +42,10 @@ public class UnmarkCommand extends Command {
         TaskList taskList = duke.getTaskList();
         MessagePrinter messagePrinter = duke.getMessagePrinter();
         String successMsg = "OK, I've marked this task as not done yet:";
-        Task task = taskList.get(idTask - 1);
-        task.markAsNotDone();
+        if (taskList.get(idTask - 1).getIsDone()) {
+            duke.apply(new MarkChange(idTask - 1, false));
+        }
+        Task task = duke.getTaskList().get(idTask - 1);
         return messagePrinter.getPrintMessage(successMsg + "\n" + task);
     }
 
@@ -51,4 +57,29 @@ public class UnmarkCommand extends Command {
     public boolean isTerminating() {
         return false;
     }
+
+    /**
+     * Returns the UnmarkCommand represented by the tokens of a user input.
+     * @param lexer The tokens of the user input.
+     * @return The UnmarkCommand.
+     * @throws CompileException if the user input is not in correct format.
+     */
+    public static UnmarkCommand parse(CommandLexer lexer) throws CompileException {
+        return new UnmarkCommand(parseIndexArgument(lexer, Action.UNMARK));
+    }
+
+    /**
+     * Registers the UnmarkCommand under its command word.
+     */
+    public static final class Provider implements CommandRegistry.CommandProvider {
+        @Override
+        public Action getAction() {
+            return Action.UNMARK;
+        }
+
+        @Override
+        public Command create(CommandLexer lexer) throws CompileException {
+            return parse(lexer);
+        }
+    }
 }
@@ -13,4 +13,18 @@ public class ReadAttributeException extends DukeRuntimeException {
     public ReadAttributeException(String className, String formattedString, String message) {
         super("When reading from '" + formattedString + "' in class " + className + ":\n" + message);
     }
+
+    /**
+     * Constructs ReadAttributeException locating the error in the formatted String.
+     * @param className The class that reads the formatted String.
+     * @param formattedString The formatted String.
+     * @param line The line number of the formatted String, starting from 1, or 0 if unknown.
+     * @param column The column of the error in the formatted String, starting from 1.
+     * @param message The Error Details.
+     */
+    public ReadAttributeException(String className, String formattedString, int line, int column, String message) {
+        super("When reading from '" + formattedString + "' in class " + className
+                + (line > 0 ? " at line " + line + ", column " + column : " at column " + column)
+                + ":\n" + message);
+    }
 }
@@ -0,0 +1,71 @@
+package duke.history;
+
+import duke.task.Task;
+import duke.util.Parser;
+import duke.util.TaskList;
+
+/**
+ * Represents a Task being added to the TaskList at an index.
+ */
+public class AddChange extends Change {
+    public static final String SYMBOL = "A";
+    private final int index;
+    private final Task task;
+
+    /**
+     * Constructs the class.
+     * @param index The index the Task is added at.
+     * @param task The added Task.
+     */
+    public AddChange(int index, Task task) {
+        this.index = index;
+        this.task = task;
+    }
+
+    public int getIndex() {
+        return this.index;
+    }
+
+    public Task getTask() {
+        return this.task;
+    }
+
+    /**
+     * Adds the Task to the given TaskList.
+     * @param tasks The TaskList to be modified.
+     * @return The given TaskList.
+     */
+    @Override
+    public TaskList apply(TaskList tasks) {
+        tasks.add(index, task);
+        return tasks;
+    }
+
+    /**
+     * Returns the Change that removes the Task again.
+     * @return The inverse Change.
+     */
+    @Override
+    public Change invert() {
+        return new RemoveChange(index, task);
+    }
+
+    /**
+     * Returns the formatted string representation of the Change.
+     * @return The formatted string representation of the Change.
+     */
+    @Override
+    public String toFormattedString() {
+        return Parser.combineAttributes(SYMBOL, Integer.toString(index), task.toFormattedString());
+    }
+
+    /**
+     * Returns the estimated number of bytes the Change holds in memory.
+     * @return The estimated number of bytes.
+     */
+    @Override
+    public long estimateSize() {
+        int changeOverhead = 24;
+        return changeOverhead + estimateSize(task);
+    }
+}
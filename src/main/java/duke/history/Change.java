@@ -0,0 +1,44 @@
+package duke.history;
+
+import duke.task.Task;
+import duke.util.TaskList;
+
+/**
+ * Represents a small, reversible modification to the TaskList.
+ */
+public abstract class Change {
+    /**
+     * Applies the Change to the given TaskList.
+     * @param tasks The TaskList to be modified.
+     * @return The TaskList after the Change is applied.
+     */
+    public abstract TaskList apply(TaskList tasks);
+
+    /**
+     * Returns the Change that reverts this Change.
+     * @return The inverse Change.
+     */
+    public abstract Change invert();
+
+    /**
+     * Returns the formatted string representation of the Change.
+     * @return The formatted string representation of the Change.
+     */
+    public abstract String toFormattedString();
+
+    /**
+     * Returns the estimated number of bytes the Change holds in memory.
+     * @return The estimated number of bytes.
+     */
+    public abstract long estimateSize();
+
+    /**
+     * Returns the estimated number of bytes a given Task holds in memory.
+     * @param task The given Task.
+     * @return The estimated number of bytes.
+     */
+    protected static long estimateSize(Task task) {
+        int taskOverhead = 96;
+        return taskOverhead + 2L * task.getName().length();
+    }
+}
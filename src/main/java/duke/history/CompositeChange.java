@@ -0,0 +1,84 @@
+package duke.history;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import duke.util.Parser;
+import duke.util.TaskList;
+
+/**
+ * Represents several Changes applied together, e.g. by a script, which are undone and redone as one.
+ */
+public class CompositeChange extends Change {
+    public static final String SYMBOL = "C";
+    private final List<Change> changes;
+
+    /**
+     * Constructs the class.
+     * @param changes The Changes in the order they are applied.
+     */
+    public CompositeChange(List<Change> changes) {
+        this.changes = List.copyOf(changes);
+    }
+
+    public List<Change> getChanges() {
+        return this.changes;
+    }
+
+    /**
+     * Applies all Changes to the given TaskList in order.
+     * @param tasks The TaskList to be modified.
+     * @return The TaskList after all Changes are applied.
+     */
+    @Override
+    public TaskList apply(TaskList tasks) {
+        for (Change change : changes) {
+            tasks = change.apply(tasks);
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns the Change that reverts all Changes, from the latest to the earliest.
+     * @return The inverse Change.
+     */
+    @Override
+    public Change invert() {
+        ArrayList<Change> inverses = new ArrayList<>(changes.size());
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            inverses.add(changes.get(i).invert());
+        }
+        return new CompositeChange(inverses);
+    }
+
+    /**
+     * Returns the formatted string representation of the Change. The first line holds the number of Changes
+     * and the number of lines they take, followed by the formatted Changes.
+     * @return The formatted string representation of the Change.
+     */
+    @Override
+    public String toFormattedString() {
+        StringBuilder rows = new StringBuilder();
+        int rowCount = 0;
+        for (Change change : changes) {
+            String row = change.toFormattedString().stripTrailing();
+            rows.append(System.lineSeparator()).append(row);
+            rowCount += (int) row.lines().count();
+        }
+        return Parser.combineAttributes(SYMBOL, Integer.toString(changes.size()), Integer.toString(rowCount))
+                + rows;
+    }
+
+    /**
+     * Returns the estimated number of bytes the Change holds in memory.
+     * @return The estimated number of bytes.
+     */
+    @Override
+    public long estimateSize() {
+        long result = 32 + 8L * changes.size();
+        for (Change change : changes) {
+            result += change.estimateSize();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,250 @@
+package duke.history;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+
+import duke.exception.ReadFileException;
+import duke.exception.WriteFileException;
+import duke.util.Parser;
+
+/**
+ * Represents the undo and redo history of the changes made to the TaskList.
+ * The history is bounded by the number of Changes and by their estimated memory use. When a bound is
+ * exceeded, the oldest Changes are evicted, either dropped or spilled to a file from which they are
+ * loaded back once the Changes in memory have all been undone. The bounds are kept whenever Changes
+ * are recorded, undone, redone or loaded back, so undone Changes beyond them can no longer be redone.
+ */
+public class History {
+    /**
+     * The system property setting the maximum number of Changes kept in memory.
+     */
+    public static final String MAX_ENTRIES_PROPERTY = "duke.history.maxEntries";
+
+    /**
+     * The system property setting the maximum estimated bytes of Changes kept in memory.
+     */
+    public static final String MAX_BYTES_PROPERTY = "duke.history.maxBytes";
+
+    /**
+     * The system property setting the file evicted Changes are spilled to. No Change is spilled if unset.
+     */
+    public static final String SPILL_PATH_PROPERTY = "duke.history.spill";
+
+    private static final int DEFAULT_MAX_ENTRIES = 1000;
+    private static final long DEFAULT_MAX_BYTES = 16L * 1024 * 1024;
+
+    private final ArrayDeque<Change> undoChanges = new ArrayDeque<>();
+    private final ArrayDeque<Change> redoChanges = new ArrayDeque<>();
+    private final ArrayDeque<Long> spillOffsets = new ArrayDeque<>();
+    private final int maxEntries;
+    private final long maxBytes;
+    private final Path spillPath;
+    private long estimatedBytes;
+
+    /**
+     * Constructs History with given bounds.
+     * @param maxEntries The maximum number of Changes kept in memory.
+     * @param maxBytes The maximum estimated bytes of Changes kept in memory.
+     * @param spillPath The file evicted Changes are spilled to, or null if they are dropped.
+     */
+    public History(int maxEntries, long maxBytes, Path spillPath) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.spillPath = spillPath;
+        if (spillPath != null) {
+            initializeSpillFile();
+        }
+    }
+
+    /**
+     * Returns History with the bounds set by the system properties.
+     * @return The History.
+     */
+    public static History create() {
+        int maxEntries = Integer.getInteger(MAX_ENTRIES_PROPERTY, DEFAULT_MAX_ENTRIES);
+        long maxBytes = Long.getLong(MAX_BYTES_PROPERTY, DEFAULT_MAX_BYTES);
+        String spillPath = System.getProperty(SPILL_PATH_PROPERTY);
+        return new History(maxEntries, maxBytes, spillPath == null ? null : Paths.get(spillPath));
+    }
+
+    /**
+     * Records a Change that has just been applied. All Changes that could be redone are discarded.
+     * A Change larger than the memory bound on its own, e.g. replacing a large TaskList, is not recorded.
+     * The Changes before it can no longer be undone without it, so the whole history is cleared instead.
+     * @param change The applied Change.
+     * @return Whether the Change is recorded and can be undone.
+     */
+    public boolean record(Change change) {
+        if (change.estimateSize() > maxBytes) {
+            clear();
+            return false;
+        }
+        redoChanges.forEach(c -> estimatedBytes -= c.estimateSize());
+        redoChanges.clear();
+        undoChanges.push(change);
+        estimatedBytes += change.estimateSize();
+        evict();
+        return true;
+    }
+
+    /**
+     * Returns the latest Change without moving it, loading it back from the file if it has been spilled.
+     * @return The latest Change, or null if there is no Change to undo.
+     */
+    public Change peekUndo() {
+        if (undoChanges.isEmpty() && !spillOffsets.isEmpty()) {
+            Change change = unspill();
+            undoChanges.push(change);
+            estimatedBytes += change.estimateSize();
+            evict();
+        }
+        return undoChanges.peek();
+    }
+
+    /**
+     * Returns the latest undone Change without moving it.
+     * @return The latest undone Change, or null if there is no Change to redo.
+     */
+    public Change peekRedo() {
+        return redoChanges.peek();
+    }
+
+    /**
+     * Returns and moves the latest Change to the redo history.
+     * @return The latest Change, or null if there is no Change to undo.
+     */
+    public Change undo() {
+        peekUndo();
+        Change change = undoChanges.poll();
+        if (change != null) {
+            redoChanges.push(change);
+            evict();
+        }
+        return change;
+    }
+
+    /**
+     * Returns and moves the latest undone Change back to the undo history.
+     * @return The latest undone Change, or null if there is no Change to redo.
+     */
+    public Change redo() {
+        Change change = redoChanges.poll();
+        if (change != null) {
+            undoChanges.push(change);
+            evict();
+        }
+        return change;
+    }
+
+    /**
+     * Returns the number of Changes that can be undone, including the spilled ones.
+     * @return The number of Changes that can be undone.
+     */
+    public int getUndoSize() {
+        return undoChanges.size() + spillOffsets.size();
+    }
+
+    /**
+     * Returns the number of Changes that can be redone.
+     * @return The number of Changes that can be redone.
+     */
+    public int getRedoSize() {
+        return redoChanges.size();
+    }
+
+    /**
+     * Returns the number of Changes spilled to the file.
+     * @return The number of spilled Changes.
+     */
+    public int getSpilledSize() {
+        return spillOffsets.size();
+    }
+
+    /**
+     * Returns the estimated bytes of the Changes kept in memory.
+     * @return The estimated bytes.
+     */
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * Evicts the oldest Changes until the history is within its bounds again. Undone Changes are only evicted
+     * once the latest Change to undo is the only one left, so that a Change just loaded back stays in memory.
+     */
+    private void evict() {
+        while (undoChanges.size() + redoChanges.size() > maxEntries || estimatedBytes > maxBytes) {
+            boolean isUndoEvicted = undoChanges.size() > 1 || redoChanges.isEmpty();
+            ArrayDeque<Change> changes = isUndoEvicted ? undoChanges : redoChanges;
+            Change change = changes.pollLast();
+            if (change == null) {
+                return;
+            }
+            estimatedBytes -= change.estimateSize();
+            if (spillPath != null && changes == undoChanges) {
+                spill(change);
+            }
+        }
+    }
+
+    /**
+     * Discards all Changes, including the spilled ones.
+     */
+    private void clear() {
+        undoChanges.clear();
+        redoChanges.clear();
+        estimatedBytes = 0;
+        if (!spillOffsets.isEmpty()) {
+            spillOffsets.clear();
+            initializeSpillFile();
+        }
+    }
+
+    private void initializeSpillFile() {
+        try {
+            FileChannel.open(spillPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING).close();
+            spillPath.toFile().deleteOnExit();
+        } catch (IOException ioException) {
+            throw new WriteFileException(spillPath, "Unable to create the history file.");
+        }
+    }
+
+    /**
+     * Appends an evicted Change to the file. Changes are evicted from the oldest, so the file always
+     * holds the spilled Changes from the oldest to the latest.
+     * @param change The evicted Change.
+     */
+    private void spill(Change change) {
+        try (FileChannel channel = FileChannel.open(spillPath, StandardOpenOption.WRITE)) {
+            long offset = channel.size();
+            channel.write(ByteBuffer.wrap(change.toFormattedString().getBytes(StandardCharsets.UTF_8)), offset);
+            spillOffsets.push(offset);
+        } catch (IOException ioException) {
+            throw new WriteFileException(spillPath, "Unable to write the history file.");
+        }
+    }
+
+    /**
+     * Returns and removes the latest spilled Change.
+     * @return The latest spilled Change.
+     */
+    private Change unspill() {
+        long offset = spillOffsets.pop();
+        try (FileChannel channel = FileChannel.open(spillPath, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) (channel.size() - offset));
+            channel.read(buffer, offset);
+            channel.truncate(offset);
+            return Parser.parseChange(new String(buffer.array(), StandardCharsets.UTF_8));
+        } catch (IOException ioException) {
+            throw new ReadFileException(spillPath, "Unable to read the history file.");
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package duke.history;
+
+import duke.util.Parser;
+import duke.util.TaskList;
+
+/**
+ * Represents the done status of a Task in the TaskList being flipped.
+ */
+public class MarkChange extends Change {
+    public static final String SYMBOL = "M";
+    private final int index;
+    private final boolean isDone;
+
+    /**
+     * Constructs the class.
+     * @param index The index of the Task.
+     * @param isDone The done status of the Task after the Change.
+     */
+    public MarkChange(int index, boolean isDone) {
+        this.index = index;
+        this.isDone = isDone;
+    }
+
+    public int getIndex() {
+        return this.index;
+    }
+
+    public boolean getIsDone() {
+        return this.isDone;
+    }
+
+    /**
+     * Sets the done status of the Task in the given TaskList.
+     * @param tasks The TaskList to be modified.
+     * @return The given TaskList.
+     */
+    @Override
+    public TaskList apply(TaskList tasks) {
+        tasks.setIsDone(index, isDone);
+        return tasks;
+    }
+
+    /**
+     * Returns the Change that flips the done status back.
+     * @return The inverse Change.
+     */
+    @Override
+    public Change invert() {
+        return new MarkChange(index, !isDone);
+    }
+
+    /**
+     * Returns the formatted string representation of the Change.
+     * @return The formatted string representation of the Change.
+     */
+    @Override
+    public String toFormattedString() {
+        return Parser.combineAttributes(SYMBOL, Integer.toString(index),
+                Integer.toString(Parser.convertBoolToInt(isDone)));
+    }
+
+    /**
+     * Returns the estimated number of bytes the Change holds in memory.
+     * @return The estimated number of bytes.
+     */
+    @Override
+    public long estimateSize() {
+        return 24;
+    }
+}
@@ -0,0 +1,71 @@
+package duke.history;
+
+import duke.task.Task;
+import duke.util.Parser;
+import duke.util.TaskList;
+
+/**
+ * Represents a Task being removed from the TaskList at an index.
+ */
+public class RemoveChange extends Change {
+    public static final String SYMBOL = "D";
+    private final int index;
+    private final Task task;
+
+    /**
+     * Constructs the class.
+     * @param index The index the Task is removed from.
+     * @param task The removed Task.
+     */
+    public RemoveChange(int index, Task task) {
+        this.index = index;
+        this.task = task;
+    }
+
+    public int getIndex() {
+        return this.index;
+    }
+
+    public Task getTask() {
+        return this.task;
+    }
+
+    /**
+     * Removes the Task from the given TaskList.
+     * @param tasks The TaskList to be modified.
+     * @return The given TaskList.
+     */
+    @Override
+    public TaskList apply(TaskList tasks) {
+        tasks.remove(index);
+        return tasks;
+    }
+
+    /**
+     * Returns the Change that puts the Task back to its index.
+     * @return The inverse Change.
+     */
+    @Override
+    public Change invert() {
+        return new AddChange(index, task);
+    }
+
+    /**
+     * Returns the formatted string representation of the Change.
+     * @return The formatted string representation of the Change.
+     */
+    @Override
+    public String toFormattedString() {
+        return Parser.combineAttributes(SYMBOL, Integer.toString(index), task.toFormattedString());
+    }
+
+    /**
+     * Returns the estimated number of bytes the Change holds in memory.
+     * @return The estimated number of bytes.
+     */
+    @Override
+    public long estimateSize() {
+        int changeOverhead = 24;
+        return changeOverhead + estimateSize(task);
+    }
+}
@@ -0,0 +1,85 @@
+package duke.history;
+
+import duke.util.Parser;
+import duke.util.TaskList;
+
+/**
+ * Represents the whole TaskList being replaced by another one, e.g. when reading from Storage.
+ */
+public class ReplaceChange extends Change {
+    public static final String SYMBOL = "R";
+    private final TaskList oldTaskList;
+    private final TaskList newTaskList;
+    private long estimatedSize = -1;
+
+    /**
+     * Constructs the class. Snapshots of both TaskLists are kept, so that the Change is not affected by
+     * later modifications to them, even when it is only spilled long after being recorded.
+     * @param oldTaskList The TaskList before the Change.
+     * @param newTaskList The TaskList after the Change.
+     */
+    public ReplaceChange(TaskList oldTaskList, TaskList newTaskList) {
+        this.oldTaskList = oldTaskList.snapshot();
+        this.newTaskList = newTaskList.snapshot();
+    }
+
+    public TaskList getOldTaskList() {
+        return this.oldTaskList;
+    }
+
+    public TaskList getNewTaskList() {
+        return this.newTaskList;
+    }
+
+    /**
+     * Returns a snapshot of the new TaskList in place of the given one.
+     * @param tasks The TaskList to be replaced.
+     * @return The new TaskList.
+     */
+    @Override
+    public TaskList apply(TaskList tasks) {
+        return newTaskList.snapshot();
+    }
+
+    /**
+     * Returns the Change that brings back the old TaskList.
+     * @return The inverse Change.
+     */
+    @Override
+    public Change invert() {
+        return new ReplaceChange(newTaskList, oldTaskList);
+    }
+
+    /**
+     * Returns the formatted string representation of the Change. The first line holds the sizes of
+     * both TaskLists, followed by the formatted Tasks of the old and then the new TaskList.
+     * @return The formatted string representation of the Change.
+     */
+    @Override
+    public String toFormattedString() {
+        return Parser.combineAttributes(SYMBOL, Integer.toString(oldTaskList.size()),
+                Integer.toString(newTaskList.size()))
+                + System.lineSeparator() + oldTaskList.toFormattedString()
+                + newTaskList.toFormattedString();
+    }
+
+    /**
+     * Returns the estimated number of bytes the Change holds in memory.
+     * The estimate is computed once, as both TaskLists may be large.
+     * @return The estimated number of bytes.
+     */
+    @Override
+    public long estimateSize() {
+        if (estimatedSize < 0) {
+            long result = 32;
+            for (int i = 0; i < oldTaskList.size(); i++) {
+                result += estimateSize(oldTaskList.get(i));
+            }
+            for (int i = 0; i < newTaskList.size(); i++) {
+                result += estimateSize(newTaskList.get(i));
+            }
+            estimatedSize = result;
+        }
+        return estimatedSize;
+    }
+}
@@ -2,7 +2,9 @@ package duke.task;
 
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+import duke.util.DateTimeCodec;
 import duke.util.Parser;
 
 /**
@@ -10,7 +12,7 @@ import duke.util.Parser;
  */
 public class Deadline extends Task {
     public static final String SYMBOL = "D";
-    private LocalDateTime time;
+    private final LocalDateTime time;
 
     /**
      * Constructs the Deadline with given Task information and time.
@@ -18,7 +20,17 @@ public class Deadline extends Task {
      * @param time The given deadline time.
      */
     public Deadline(String name, LocalDateTime time) {
-        super(name);
+        this(name, time, false);
+    }
+
+    /**
+     * Constructs the Deadline with given Task information, time and done status.
+     * @param name The given task information.
+     * @param time The given deadline time.
+     * @param isDone The given done status.
+     */
+    public Deadline(String name, LocalDateTime time, boolean isDone) {
+        super(name, isDone);
         this.time = time;
     }
 
@@ -26,13 +38,11 @@ public class Deadline extends Task {
         return this.time;
     }
 
-    public void setTime(LocalDateTime time) {
-        this.time = time;
-    }
-
     @Override
     public String toString() {
-        return "[" + SYMBOL + "]" + super.toString() + " (by: " + Parser.parseDateTimeToString(this.time) + ")";
+        StringBuilder builder = new StringBuilder("[").append(SYMBOL).append("]").append(super.toString())
+                .append(" (by: ");
+        return DateTimeCodec.appendTo(builder, this.time).append(")").toString();
     }
 
     /**
@@ -44,7 +54,7 @@ public class Deadline extends Task {
         return Parser.combineAttributes(SYMBOL,
                 Integer.toString(Parser.convertBoolToInt(this.getIsDone())),
                 this.getName(),
-                Parser.parseDateTimeToString(this.getTime()));
+                DateTimeCodec.format(this.getTime()));
     }
 
     /**
@@ -53,11 +63,17 @@ public class Deadline extends Task {
      */
     @Override
     public Deadline clone() {
-        Deadline result = new Deadline(this.getName(), this.getTime());
-        if (this.getIsDone()) {
-            result.markAsDone();
-        }
-        return result;
+        return new Deadline(this.getName(), this.getTime(), this.getIsDone());
+    }
+
+    /**
+     * Returns a copy of the Deadline with the given done status.
+     * @param isDone The done status of the copy.
+     * @return The copy of the Deadline.
+     */
+    @Override
+    public Deadline withIsDone(boolean isDone) {
+        return new Deadline(this.getName(), this.getTime(), isDone);
     }
 
     /**
@@ -75,6 +91,15 @@ public class Deadline extends Task {
         return false;
     }
 
+    /**
+     * Returns the key identifying the Deadline, which is consistent with isSameTask.
+     * @return The identity key of the Deadline.
+     */
+    @Override
+    public Object getIdentityKey() {
+        return List.of(SYMBOL, this.getName(), this.getTime());
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj == this) {
@@ -1,7 +1,9 @@
 package duke.task;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+import duke.util.DateTimeCodec;
 import duke.util.Parser;
 
 /**
@@ -9,7 +11,7 @@ import duke.util.Parser;
  */
 public class Event extends Task {
     public static final String SYMBOL = "E";
-    private LocalDateTime time;
+    private final LocalDateTime time;
 
     /**
      * Constructs the Event with given Task information and time.
@@ -17,7 +19,17 @@ public class Event extends Task {
      * @param time The given event time.
      */
     public Event(String name, LocalDateTime time) {
-        super(name);
+        this(name, time, false);
+    }
+
+    /**
+     * Constructs the Event with given Task information, time and done status.
+     * @param name The given task information.
+     * @param time The given event time.
+     * @param isDone The given done status.
+     */
+    public Event(String name, LocalDateTime time, boolean isDone) {
+        super(name, isDone);
         this.time = time;
     }
 
@@ -25,13 +37,11 @@ public class Event extends Task {
         return this.time;
     }
 
-    public void setTime(LocalDateTime time) {
-        this.time = time;
-    }
-
     @Override
     public String toString() {
-        return "[" + SYMBOL + "]" + super.toString() + " (at: " + Parser.parseDateTimeToString(this.time) + ")";
+        StringBuilder builder = new StringBuilder("[").append(SYMBOL).append("]").append(super.toString())
+                .append(" (at: ");
+        return DateTimeCodec.appendTo(builder, this.time).append(")").toString();
     }
 
     /**
@@ -43,7 +53,7 @@ public class Event extends Task {
         return Parser.combineAttributes(SYMBOL,
                 Integer.toString(Parser.convertBoolToInt(this.getIsDone())),
                 this.getName(),
-                Parser.parseDateTimeToString(this.getTime()));
+                DateTimeCodec.format(this.getTime()));
     }
 
     /**
@@ -52,11 +62,17 @@ public class Event extends Task {
      */
     @Override
     public Event clone() {
-        Event result = new Event(String.valueOf(this.getName()), this.getTime());
-        if (this.getIsDone()) {
-            result.markAsDone();
-        }
-        return result;
+        return new Event(this.getName(), this.getTime(), this.getIsDone());
+    }
+
+    /**
+     * Returns a copy of the Event with the given done status.
+     * @param isDone The done status of the copy.
+     * @return The copy of the Event.
+     */
+    @Override
+    public Event withIsDone(boolean isDone) {
+        return new Event(this.getName(), this.getTime(), isDone);
     }
 
     /**
@@ -74,6 +90,15 @@ public class Event extends Task {
         return false;
     }
 
+    /**
+     * Returns the key identifying the Event, which is consistent with isSameTask.
+     * @return The identity key of the Event.
+     */
+    @Override
+    public Object getIdentityKey() {
+        return List.of(SYMBOL, this.getName(), this.getTime());
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj == this) {
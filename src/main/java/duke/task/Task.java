@@ -1,47 +1,45 @@
 package duke.task;
 
 /**
- * Represents Tasks save by Duke.
+ * Represents Tasks save by Duke. Tasks are immutable, so that TaskLists and their snapshots can share them.
  */
 public abstract class Task {
-    private String name;
-    private boolean isDone;
+    private final String name;
+    private final boolean isDone;
 
-    protected Task(String name) {
-        setName(name);
-        setIsDone(false);
+    protected Task(String name, boolean isDone) {
+        this.name = name;
+        this.isDone = isDone;
     }
 
     public String getName() {
         return this.name;
     }
 
-    public void setName(String name) {
-        this.name = name;
-    }
-
     public boolean getIsDone() {
         return this.isDone;
     }
 
-    private void setIsDone(boolean isDone) {
-        this.isDone = isDone;
-    }
-
-    public void markAsDone() {
-        this.isDone = true;
-    }
-
-    public void markAsNotDone() {
-        this.isDone = false;
-    }
-
     public abstract String toFormattedString();
 
     public abstract Task clone();
 
+    /**
+     * Returns a copy of the Task with the given done status.
+     * @param isDone The done status of the copy.
+     * @return The copy of the Task.
+     */
+    public abstract Task withIsDone(boolean isDone);
+
     public abstract boolean isSameTask(Task task);
 
+    /**
+     * Returns the key identifying the Task, such that two Tasks are the same Task
+     * if and only if their keys are equal.
+     * @return The identity key of the Task.
+     */
+    public abstract Object getIdentityKey();
+
     /**
      * Return the String representation of the Task.
      * @return The String representation of the Task.
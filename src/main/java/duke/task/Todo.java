@@ -1,5 +1,7 @@
 package duke.task;
 
+import java.util.List;
+
 import duke.util.Parser;
 
 /**
@@ -13,7 +15,16 @@ public class Todo extends Task {
      * @param name The given task information.
      */
     public Todo(String name) {
-        super(name);
+        this(name, false);
+    }
+
+    /**
+     * Constructs the Todo with given Task information and done status.
+     * @param name The given task information.
+     * @param isDone The given done status.
+     */
+    public Todo(String name, boolean isDone) {
+        super(name, isDone);
     }
 
     @Override
@@ -38,11 +49,17 @@ public class Todo extends Task {
      */
     @Override
     public Todo clone() {
-        Todo result = new Todo(String.valueOf(this.getName()));
-        if (this.getIsDone()) {
-            result.markAsDone();
-        }
-        return result;
+        return new Todo(this.getName(), this.getIsDone());
+    }
+
+    /**
+     * Returns a copy of the Todo with the given done status.
+     * @param isDone The done status of the copy.
+     * @return The copy of the Todo.
+     */
+    @Override
+    public Todo withIsDone(boolean isDone) {
+        return new Todo(this.getName(), isDone);
     }
 
     /**
@@ -58,6 +75,15 @@ public class Todo extends Task {
         return false;
     }
 
+    /**
+     * Returns the key identifying the Todo, which is consistent with isSameTask.
+     * @return The identity key of the Todo.
+     */
+    @Override
+    public Object getIdentityKey() {
+        return List.of(SYMBOL, this.getName());
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj == this) {
@@ -0,0 +1,63 @@
+package duke.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+
+import duke.task.Task;
+
+/**
+ * Represents a TaskSequence backed by an ArrayList. Taking a snapshot copies the whole list.
+ */
+public class ArrayTaskSequence implements TaskSequence {
+    private final ArrayList<Task> tasks;
+
+    /**
+     * Constructs an empty ArrayTaskSequence.
+     */
+    public ArrayTaskSequence() {
+        this(new ArrayList<>());
+    }
+
+    private ArrayTaskSequence(ArrayList<Task> tasks) {
+        this.tasks = tasks;
+    }
+
+    @Override
+    public Task get(int i) {
+        return tasks.get(i);
+    }
+
+    @Override
+    public Task set(int i, Task task) {
+        return tasks.set(i, task);
+    }
+
+    @Override
+    public void add(int i, Task task) {
+        tasks.add(i, task);
+    }
+
+    @Override
+    public Task remove(int i) {
+        return tasks.remove(i);
+    }
+
+    @Override
+    public int size() {
+        return tasks.size();
+    }
+
+    /**
+     * Returns a copy of this TaskSequence. Takes O(n) time.
+     * @return The snapshot of this TaskSequence.
+     */
+    @Override
+    public TaskSequence snapshot() {
+        return new ArrayTaskSequence(new ArrayList<>(tasks));
+    }
+
+    @Override
+    public Iterator<Task> iterator() {
+        return tasks.iterator();
+    }
+}
@@ -0,0 +1,184 @@
+package duke.util;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import duke.exception.ReadAttributeException;
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.Task;
+import duke.task.Todo;
+
+/**
+ * The compact binary format of a TaskList, as an alternative to the formatted String.
+ * The format starts with the magic bytes "DUKB" and a version byte, followed by one record per Task:
+ * a type byte whose highest bit is the done status, the varint length and UTF-8 bytes of the name,
+ * and for Events and Deadlines the time as a long of minutes since the epoch.
+ */
+public class BinaryTaskListCodec {
+    private static final byte[] MAGIC = {'D', 'U', 'K', 'B'};
+    private static final byte VERSION = 1;
+    private static final byte TYPE_TODO = 0;
+    private static final byte TYPE_EVENT = 1;
+    private static final byte TYPE_DEADLINE = 2;
+    private static final int DONE_BIT = 0x80;
+    private static final int SECONDS_PER_MINUTE = 60;
+
+    /**
+     * Returns whether the given bytes start with the header of the binary format.
+     * The position of the buffer is not changed.
+     *
+     * @param buffer The given bytes.
+     * @return The boolean whether the given bytes are in the binary format.
+     */
+    public static boolean isBinary(ByteBuffer buffer) {
+        if (buffer.remaining() < MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (buffer.get(buffer.position() + i) != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the binary representation of the given TaskList.
+     *
+     * @param tasks The given TaskList.
+     * @return The buffer holding the binary representation, ready to be read.
+     */
+    public static ByteBuffer encode(TaskList tasks) {
+        int initialTaskCapacity = 64;
+        ByteBuffer buffer = ByteBuffer.allocate(MAGIC.length + 1 + initialTaskCapacity * tasks.size());
+        buffer.put(MAGIC).put(VERSION);
+        for (Task task : tasks) {
+            buffer = encode(buffer, task);
+        }
+        return buffer.flip();
+    }
+
+    private static ByteBuffer encode(ByteBuffer buffer, Task task) {
+        int maxVarIntLength = 5;
+        byte[] name = task.getName().getBytes(StandardCharsets.UTF_8);
+        buffer = ensureRemaining(buffer, 1 + maxVarIntLength + name.length + Long.BYTES);
+        int doneBit = task.getIsDone() ? DONE_BIT : 0;
+        if (task instanceof Todo) {
+            buffer.put((byte) (TYPE_TODO | doneBit));
+            putVarInt(buffer, name.length);
+            buffer.put(name);
+        } else if (task instanceof Event) {
+            buffer.put((byte) (TYPE_EVENT | doneBit));
+            putVarInt(buffer, name.length);
+            buffer.put(name);
+            buffer.putLong(toEpochMinute(((Event) task).getTime()));
+        } else {
+            buffer.put((byte) (TYPE_DEADLINE | doneBit));
+            putVarInt(buffer, name.length);
+            buffer.put(name);
+            buffer.putLong(toEpochMinute(((Deadline) task).getTime()));
+        }
+        return buffer;
+    }
+
+    /**
+     * Returns the TaskList represented by the given bytes in the binary format.
+     *
+     * @param buffer The given bytes, from the position to the limit.
+     * @return The TaskList.
+     * @throws ReadAttributeException if the bytes are not in correct format.
+     */
+    public static TaskList decode(ByteBuffer buffer) throws ReadAttributeException {
+        if (!isBinary(buffer)) {
+            throw new ReadAttributeException("BinaryTaskListCodec", "header", "The header is invalid.");
+        }
+        buffer.position(buffer.position() + MAGIC.length);
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new ReadAttributeException("BinaryTaskListCodec", "header",
+                    "Version " + version + " is not supported.");
+        }
+        TaskList result = new TaskList();
+        while (buffer.hasRemaining()) {
+            int position = buffer.position();
+            try {
+                result.add(decodeTask(buffer));
+            } catch (BufferUnderflowException | IllegalArgumentException exception) {
+                throw new ReadAttributeException("BinaryTaskListCodec", "byte " + position,
+                        "The Task is truncated or invalid.");
+            }
+        }
+        return result;
+    }
+
+    private static Task decodeTask(ByteBuffer buffer) {
+        int type = buffer.get() & 0xFF;
+        int nameLength = getVarInt(buffer);
+        if (nameLength > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] name = new byte[nameLength];
+        buffer.get(name);
+        boolean isDone = (type & DONE_BIT) != 0;
+        Task task;
+        switch (type & ~DONE_BIT) {
+        case TYPE_TODO:
+            task = new Todo(new String(name, StandardCharsets.UTF_8), isDone);
+            break;
+        case TYPE_EVENT:
+            task = new Event(new String(name, StandardCharsets.UTF_8), fromEpochMinute(buffer.getLong()), isDone);
+            break;
+        case TYPE_DEADLINE:
+            task = new Deadline(new String(name, StandardCharsets.UTF_8), fromEpochMinute(buffer.getLong()),
+                    isDone);
+            break;
+        default:
+            throw new IllegalArgumentException("Task type " + type + " is invalid.");
+        }
+        return task;
+    }
+
+    private static ByteBuffer ensureRemaining(ByteBuffer buffer, int length) {
+        if (buffer.remaining() >= length) {
+            return buffer;
+        }
+        ByteBuffer result = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + length));
+        return result.put(buffer.flip());
+    }
+
+    private static void putVarInt(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static int getVarInt(ByteBuffer buffer) {
+        int maxShift = 28;
+        int result = 0;
+        for (int shift = 0; shift <= maxShift; shift += 7) {
+            byte b = buffer.get();
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (result < 0) {
+                    break;
+                }
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Length is invalid.");
+    }
+
+    private static long toEpochMinute(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / SECONDS_PER_MINUTE;
+    }
+
+    private static LocalDateTime fromEpochMinute(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
+    }
+}
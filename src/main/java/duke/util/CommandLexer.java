@@ -0,0 +1,172 @@
+package duke.util;
+
+import java.util.Arrays;
+
+/**
+ * Represents the tokens of a user input, found in a single pass over the input.
+ * The tokens are kept as spans of the input, and Strings are only created for the parts that are asked for.
+ * The first word of the input is the command word. A flag is a word starting with '/' that follows a whitespace,
+ * such as "/by" in "deadline return book /by 2022-08-25 23:45".
+ */
+public class CommandLexer {
+    private static final char FLAG_PREFIX = '/';
+    private static final int INITIAL_FLAG_CAPACITY = 2;
+
+    private final CharSequence input;
+    private final int end;
+    private int wordStart;
+    private int wordEnd;
+    private int flagCount;
+    private int[] flagStarts = new int[INITIAL_FLAG_CAPACITY];
+    private int[] flagEnds = new int[INITIAL_FLAG_CAPACITY];
+
+    private CommandLexer(CharSequence input) {
+        this.input = input;
+        this.end = input.length();
+    }
+
+    /**
+     * Returns the tokens of the given user input.
+     * @param input The given user input.
+     * @return The tokens of the given user input.
+     */
+    public static CommandLexer lex(CharSequence input) {
+        CommandLexer lexer = new CommandLexer(input);
+        lexer.scan();
+        return lexer;
+    }
+
+    private void scan() {
+        int i = skipWhitespace(0);
+        wordStart = i;
+        i = skipWord(i);
+        wordEnd = i;
+        while (i < end) {
+            boolean isAfterWhitespace = Character.isWhitespace(input.charAt(i));
+            i++;
+            if (isAfterWhitespace && i < end && input.charAt(i) == FLAG_PREFIX) {
+                int flagEnd = skipWord(i);
+                addFlag(i, flagEnd);
+                i = flagEnd;
+            }
+        }
+    }
+
+    private void addFlag(int start, int flagEnd) {
+        if (flagCount == flagStarts.length) {
+            flagStarts = Arrays.copyOf(flagStarts, flagCount * 2);
+            flagEnds = Arrays.copyOf(flagEnds, flagCount * 2);
+        }
+        flagStarts[flagCount] = start;
+        flagEnds[flagCount] = flagEnd;
+        flagCount++;
+    }
+
+    private int skipWhitespace(int i) {
+        while (i < end && Character.isWhitespace(input.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private int skipWord(int i) {
+        while (i < end && !Character.isWhitespace(input.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the command word, which is empty if the input is blank.
+     * @return The command word.
+     */
+    public String getWord() {
+        return input.subSequence(wordStart, wordEnd).toString();
+    }
+
+    /**
+     * Returns the trimmed text after the command word.
+     * @return The text after the command word.
+     */
+    public String getArguments() {
+        return getTrimmed(wordEnd, end);
+    }
+
+    /**
+     * Returns whether the text after the command word is a decimal integer.
+     * @return The boolean whether the text after the command word is a decimal integer.
+     */
+    public boolean hasIntArguments() {
+        try {
+            getIntArguments();
+            return true;
+        } catch (NumberFormatException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the text after the command word as an integer.
+     * @return The integer.
+     * @throws NumberFormatException if the text after the command word is not an integer.
+     */
+    public int getIntArguments() throws NumberFormatException {
+        int start = skipWhitespace(wordEnd);
+        return Integer.parseInt(input, start, trimEnd(start, end), 10);
+    }
+
+    /**
+     * Returns the position of the first flag with the given name among all flags.
+     * @param flag The name of the flag, including the leading '/'.
+     * @return The position of the flag, or -1 if the input does not have the flag.
+     */
+    public int indexOfFlag(String flag) {
+        for (int i = 0; i < flagCount; i++) {
+            int length = flagEnds[i] - flagStarts[i];
+            if (length == flag.length() && regionMatches(flagStarts[i], flag)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the trimmed text between the command word and the flag at the given position.
+     * @param flagIndex The position of the flag.
+     * @return The text before the flag.
+     */
+    public String getArgumentsBefore(int flagIndex) {
+        return getTrimmed(wordEnd, flagStarts[flagIndex]);
+    }
+
+    /**
+     * Returns the trimmed text from the flag at the given position to the end of the input.
+     * Later flags are part of the value, so that the first matching flag splits the input in two.
+     * @param flagIndex The position of the flag.
+     * @return The value of the flag.
+     */
+    public String getFlagValue(int flagIndex) {
+        return getTrimmed(flagEnds[flagIndex], end);
+    }
+
+    private boolean regionMatches(int start, String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (input.charAt(start + i) != s.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int trimEnd(int start, int stop) {
+        while (stop > start && Character.isWhitespace(input.charAt(stop - 1))) {
+            stop--;
+        }
+        return stop;
+    }
+
+    private String getTrimmed(int start, int stop) {
+        start = skipWhitespace(start);
+        return input.subSequence(start, Math.max(start, trimEnd(start, stop))).toString();
+    }
+}
@@ -0,0 +1,83 @@
+package duke.util;
+
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+import duke.command.Action;
+import duke.command.Command;
+import duke.exception.DukeException;
+import duke.exception.InvalidActionException;
+
+/**
+ * The registry of the Commands that Duke understands, by their command words.
+ * Dispatching a user input costs one hash lookup of its command word. Each Command parses its own user input,
+ * and registers itself through a CommandProvider listed in META-INF/services, so a new Command is made available
+ * without changing the registry. A factory can also be registered under any command word at runtime.
+ */
+public class CommandRegistry {
+    private static final ConcurrentHashMap<String, CommandFactory> factories = new ConcurrentHashMap<>();
+
+    static {
+        for (CommandProvider provider : ServiceLoader.load(CommandProvider.class)) {
+            register(provider.getAction(), provider);
+        }
+    }
+
+    /**
+     * Registers the factory of the Command of the given Action, under the command word of the Action.
+     * @param action The given Action.
+     * @param factory The factory building the Command.
+     */
+    public static void register(Action action, CommandFactory factory) {
+        register(Action.convertToString(action), factory);
+    }
+
+    /**
+     * Registers the factory of a Command under the given command word, replacing any previous one.
+     * @param keyword The given command word.
+     * @param factory The factory building the Command.
+     */
+    public static void register(String keyword, CommandFactory factory) {
+        factories.put(keyword, factory);
+    }
+
+    /**
+     * Returns the factory registered under the given command word.
+     * @param keyword The given command word.
+     * @return The factory building the Command.
+     * @throws InvalidActionException if no Command is registered under the command word.
+     */
+    public static CommandFactory get(String keyword) throws InvalidActionException {
+        CommandFactory factory = factories.get(keyword);
+        if (factory == null) {
+            throw new InvalidActionException(keyword);
+        }
+        return factory;
+    }
+
+    /**
+     * Represents the way to build a Command from the tokens of a user input.
+     */
+    @FunctionalInterface
+    public interface CommandFactory {
+        /**
+         * Returns the Command represented by the given tokens.
+         * @param lexer The tokens of the user input.
+         * @return The Command.
+         * @throws DukeException if the user input is not in correct format.
+         */
+        Command create(CommandLexer lexer) throws DukeException;
+    }
+
+    /**
+     * Represents the factory of a Command together with the Action it is registered under.
+     * The implementations are found with a ServiceLoader when the registry is first used.
+     */
+    public interface CommandProvider extends CommandFactory {
+        /**
+         * Returns the Action of the Command, whose command word the factory is registered under.
+         * @return The Action of the Command.
+         */
+        Action getAction();
+    }
+}
@@ -0,0 +1,157 @@
+package duke.util;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+
+import duke.exception.ReadAttributeException;
+
+/**
+ * The codec between LocalDateTime and its String representation "yyyy-MM-dd HH:mm" used by Duke.
+ * Strings in exactly that fixed-width form with valid fields are parsed by hand without allocation or
+ * exceptions. All other Strings fall back to the shared formatter, which keeps its smart resolving,
+ * such as resolving "2022-02-30" to the last day of February.
+ */
+public class DateTimeCodec {
+    /**
+     * The pattern of the String representation.
+     */
+    public static final String PATTERN = "yyyy-MM-dd HH:mm";
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(PATTERN);
+    private static final int LENGTH = PATTERN.length();
+    private static final int MONTH_OFFSET = 5;
+    private static final int DAY_OFFSET = 8;
+    private static final int HOUR_OFFSET = 11;
+    private static final int MINUTE_OFFSET = 14;
+    private static final int MAX_MONTH = 12;
+    private static final int MAX_HOUR = 23;
+    private static final int MAX_MINUTE = 59;
+
+    /**
+     * Returns the LocalDateTime represented by the given String.
+     * @param text The given String.
+     * @return The LocalDateTime, or null if the String is not a valid date and time.
+     */
+    public static LocalDateTime tryParse(CharSequence text) {
+        return tryParse(text, 0, text.length());
+    }
+
+    /**
+     * Returns the LocalDateTime represented by the given part of a String.
+     * @param text The String holding the part.
+     * @param start The index of the first character of the part.
+     * @param end The index after the last character of the part.
+     * @return The LocalDateTime, or null if the part is not a valid date and time.
+     */
+    public static LocalDateTime tryParse(CharSequence text, int start, int end) {
+        LocalDateTime result = parseFixedWidth(text, start, end);
+        if (result != null) {
+            return result;
+        }
+        try {
+            return LocalDateTime.parse(text.subSequence(start, end), FORMATTER);
+        } catch (DateTimeException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the LocalDateTime represented by the given String.
+     * @param text The given String.
+     * @return The LocalDateTime.
+     * @throws ReadAttributeException if the String is not a valid date and time.
+     */
+    public static LocalDateTime parse(CharSequence text) throws ReadAttributeException {
+        LocalDateTime result = tryParse(text);
+        if (result == null) {
+            throw new ReadAttributeException("Parser", text.toString(), "Date is invalid.");
+        }
+        return result;
+    }
+
+    /**
+     * Returns the String representation of the given LocalDateTime.
+     * @param time The given LocalDateTime.
+     * @return The String representation.
+     */
+    public static String format(LocalDateTime time) {
+        return appendTo(new StringBuilder(LENGTH), time).toString();
+    }
+
+    /**
+     * Appends the String representation of the given LocalDateTime to the given StringBuilder.
+     * @param builder The given StringBuilder.
+     * @param time The given LocalDateTime.
+     * @return The given StringBuilder.
+     */
+    public static StringBuilder appendTo(StringBuilder builder, LocalDateTime time) {
+        int year = time.getYear();
+        if (year < 1 || year > 9999) {
+            FORMATTER.formatTo(time, builder);
+            return builder;
+        }
+        appendDigits(builder, year, 4).append('-');
+        appendDigits(builder, time.getMonthValue(), 2).append('-');
+        appendDigits(builder, time.getDayOfMonth(), 2).append(' ');
+        appendDigits(builder, time.getHour(), 2).append(':');
+        return appendDigits(builder, time.getMinute(), 2);
+    }
+
+    /**
+     * Returns the LocalDateTime represented by the given part of a String in exactly the fixed-width form.
+     * @param text The String holding the part.
+     * @param start The index of the first character of the part.
+     * @param end The index after the last character of the part.
+     * @return The LocalDateTime, or null if the String is not in the form or any field is out of range.
+     */
+    private static LocalDateTime parseFixedWidth(CharSequence text, int start, int end) {
+        if (end - start != LENGTH || text.charAt(start + MONTH_OFFSET - 1) != '-'
+                || text.charAt(start + DAY_OFFSET - 1) != '-' || text.charAt(start + HOUR_OFFSET - 1) != ' '
+                || text.charAt(start + MINUTE_OFFSET - 1) != ':') {
+            return null;
+        }
+        int year = parseDigits(text, start, 4);
+        int month = parseDigits(text, start + MONTH_OFFSET, 2);
+        int day = parseDigits(text, start + DAY_OFFSET, 2);
+        int hour = parseDigits(text, start + HOUR_OFFSET, 2);
+        int minute = parseDigits(text, start + MINUTE_OFFSET, 2);
+        if (year < 1 || month < 1 || month > MAX_MONTH || day < 1 || hour < 0 || hour > MAX_HOUR
+                || minute < 0 || minute > MAX_MINUTE || day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+        return LocalDateTime.of(year, month, day, hour, minute);
+    }
+
+    /**
+     * Returns the number written in the given digits.
+     * @param text The String holding the digits.
+     * @param start The index of the first digit.
+     * @param count The number of digits.
+     * @return The number, or -1 if any character is not an ASCII digit.
+     */
+    private static int parseDigits(CharSequence text, int start, int count) {
+        int result = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static StringBuilder appendDigits(StringBuilder builder, int value, int count) {
+        int divisor = 1;
+        for (int i = 1; i < count; i++) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            builder.append((char) ('0' + value / divisor % 10));
+        }
+        return builder;
+    }
+}
@@ -1,15 +1,27 @@
 package duke.util;
 
-import java.util.Arrays;
-import java.util.stream.Stream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Represents the UI of the Duke.
  */
 public class MessagePrinter {
-    private int indentationLevel;
-    private int horizontalLineLength;
-    private char horizontalLineSymbol;
+    /**
+     * The logger of the transcript of user inputs and responses.
+     */
+    private static final Logger TRANSCRIPT = LoggerFactory.getLogger("duke.transcript");
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final int indentationLevel;
+    private final int horizontalLineLength;
+    private final char horizontalLineSymbol;
+    private final String indentation;
+    private final String borderLine;
 
     /**
      * Constructs Message Printer.
@@ -21,6 +33,8 @@ public class MessagePrinter {
         this.indentationLevel = defaultIndentationLevel;
         this.horizontalLineLength = defaultHorizontalLineLength;
         this.horizontalLineSymbol = defaultHorizontalLineSymbol;
+        this.indentation = " ".repeat(indentationLevel);
+        this.borderLine = String.valueOf(horizontalLineSymbol).repeat(horizontalLineLength);
     }
 
     /**
@@ -47,53 +61,139 @@ public class MessagePrinter {
         return indentationLevel;
     }
 
-    private String getIndentation() {
-        return Stream.generate(() -> " ")
-                .limit(this.indentationLevel)
-                .reduce("", (x, y) -> x + y);
-    }
-
-    private String getBorderLine() {
-        return getBorderLine(this.horizontalLineSymbol, horizontalLineLength);
-    }
-
-    private String getBorderLine(char symbol, int length) {
-        String line = Stream.generate(() -> Character.toString(symbol))
-                .limit(length)
-                .reduce("", (x, y) -> x + y);
-        return line;
-    }
-
     /**
-     * The method to print message.
+     * The method to print message. The message is written to the transcript log, which is written to the
+     * terminal by a background thread as configured in logback.xml, so that the command is not slowed down.
      * @param input The user input.
      * @param output The duke's response.
      */
     public void printInTerminal(String input, String output) {
-        char logBorderLineSymbol = '-';
-        int logBorderLineLength = 50;
-        String timestamp = new java.util.Date().toString();
-        System.out.println("At " + timestamp + ":" + System.lineSeparator()
-                + "User input: [" + input + "]" + System.lineSeparator()
-                + "Response:" + System.lineSeparator()
-                + output);
-        System.out.println(getBorderLine(logBorderLineSymbol, logBorderLineLength));
+        if (TRANSCRIPT.isInfoEnabled()) {
+            TRANSCRIPT.info("User input: [{}]{}Response:{}{}", input, System.lineSeparator(),
+                    System.lineSeparator(), output);
+        }
     }
 
     /**
      * The method to accept given message and print with style.
+     * The result is rendered into one buffer sized for it up front.
      * @param msg The given message.
      * @return The message with style.
      */
     public String getPrintMessage(String msg) {
-        StringBuilder result = new StringBuilder();
-        result.append(getBorderLine()).append(System.lineSeparator());
-        result.append(Arrays.stream(msg.split(System.lineSeparator()))
-                        .reduce("", (x, y) -> x
-                                + (x.equals("") ? "" : System.lineSeparator())
-                                + getIndentation() + y))
-                .append(System.lineSeparator());
-        result.append(getBorderLine());
-        return result.toString();
+        int lineCount = countLines(msg);
+        int capacity = msg.length() + lineCount * indentation.length() + 2 * borderLine.length()
+                + (lineCount + 1) * LINE_SEPARATOR.length();
+        return appendPrintMessage(new StringBuilder(capacity), msg).toString();
+    }
+
+    /**
+     * Appends the given message with style to the given StringBuilder.
+     * @param builder The given StringBuilder.
+     * @param msg The given message.
+     * @return The given StringBuilder.
+     */
+    public StringBuilder appendPrintMessage(StringBuilder builder, CharSequence msg) {
+        try {
+            appendPrintMessage((Appendable) builder, msg);
+        } catch (IOException exception) {
+            // A StringBuilder never throws IOException.
+            throw new UncheckedIOException(exception);
+        }
+        return builder;
+    }
+
+    /**
+     * Writes the given message with style to the given Appendable. The message is scanned in place: each line
+     * is written with its indentation, and trailing empty lines are dropped.
+     * @param out The given Appendable.
+     * @param msg The given message.
+     * @throws IOException if the Appendable fails to be written.
+     */
+    public void appendPrintMessage(Appendable out, CharSequence msg) throws IOException {
+        out.append(borderLine).append(LINE_SEPARATOR);
+        int end = msg.length();
+        while (endsWithSeparator(msg, end)) {
+            end -= LINE_SEPARATOR.length();
+        }
+        int start = 0;
+        if (indentation.isEmpty()) {
+            // Leading empty lines have never been printed without indentation.
+            while (start < end && startsWithSeparator(msg, start)) {
+                start += LINE_SEPARATOR.length();
+            }
+        }
+        while (true) {
+            int lineEnd = indexOfSeparator(msg, start, end);
+            out.append(indentation).append(msg, start, lineEnd).append(LINE_SEPARATOR);
+            if (lineEnd == end) {
+                break;
+            }
+            start = lineEnd + LINE_SEPARATOR.length();
+        }
+        out.append(borderLine);
+    }
+
+    /**
+     * Appends the upper border of a message to the given StringBuilder, so that the lines of a message can be
+     * appended one by one as they are produced.
+     * @param builder The given StringBuilder.
+     * @return The given StringBuilder.
+     */
+    public StringBuilder beginFrame(StringBuilder builder) {
+        return builder.append(borderLine).append(LINE_SEPARATOR);
+    }
+
+    /**
+     * Appends a line of a message with its indentation to the given StringBuilder.
+     * @param builder The given StringBuilder.
+     * @param line The line, which does not contain line separators.
+     * @return The given StringBuilder.
+     */
+    public StringBuilder appendLine(StringBuilder builder, CharSequence line) {
+        return builder.append(indentation).append(line).append(LINE_SEPARATOR);
+    }
+
+    /**
+     * Appends the lower border of a message to the given StringBuilder.
+     * @param builder The given StringBuilder.
+     * @return The given StringBuilder.
+     */
+    public StringBuilder endFrame(StringBuilder builder) {
+        return builder.append(borderLine);
+    }
+
+    private static int countLines(CharSequence msg) {
+        int count = 1;
+        for (int i = indexOfSeparator(msg, 0, msg.length()); i < msg.length();
+                i = indexOfSeparator(msg, i + LINE_SEPARATOR.length(), msg.length())) {
+            count++;
+        }
+        return count;
+    }
+
+    private static int indexOfSeparator(CharSequence msg, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (startsWithSeparator(msg, i)) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private static boolean startsWithSeparator(CharSequence msg, int start) {
+        if (start + LINE_SEPARATOR.length() > msg.length()) {
+            return false;
+        }
+        for (int i = 0; i < LINE_SEPARATOR.length(); i++) {
+            if (msg.charAt(start + i) != LINE_SEPARATOR.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean endsWithSeparator(CharSequence msg, int end) {
+        return end >= LINE_SEPARATOR.length() && startsWithSeparator(msg, end - LINE_SEPARATOR.length());
     }
 }
@@ -1,36 +1,25 @@
 package duke.util;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Stream;
 
-import duke.command.Action;
 import duke.command.Command;
-import duke.command.DeadlineCommand;
-import duke.command.DeleteCommand;
-import duke.command.DoNothingCommand;
-import duke.command.EventCommand;
-import duke.command.ExitCommand;
-import duke.command.FindCommand;
-import duke.command.GreetCommand;
-import duke.command.ListCommand;
-import duke.command.MarkCommand;
-import duke.command.ReadCommand;
-import duke.command.SaveCommand;
-import duke.command.TodoCommand;
-import duke.command.UndoCommand;
-import duke.command.UnmarkCommand;
-import duke.exception.CompileException;
 import duke.exception.DukeException;
-import duke.exception.InvalidArgumentException;
-import duke.exception.NoArgumentException;
 import duke.exception.ReadAttributeException;
-import duke.task.Deadline;
-import duke.task.Event;
+import duke.history.AddChange;
+import duke.history.Change;
+import duke.history.CompositeChange;
+import duke.history.MarkChange;
+import duke.history.RemoveChange;
+import duke.history.ReplaceChange;
 import duke.task.Task;
-import duke.task.Todo;
 
 /**
  * The Parser for conversion between String and other types.
@@ -39,47 +28,9 @@ public class Parser {
     private static final String ATTRIBUTE_SEPARATOR = "}";
 
     /**
-     * Returns an Arraylist of all beginning indices of target in the whole String.
-     *
-     * @param str1 The targeted String.
-     * @param str2 The whole String
-     * @return The Arraylist of all beginning indices of target in the whole String.
-     */
-    private static ArrayList<Integer> getIndicesOfStr1InStr2(String str1, String str2) {
-        int len1 = str1.length();
-        int len2 = str2.length();
-
-        ArrayList<Integer> result = new ArrayList<>();
-        Stream.iterate(0, x -> x + 1)
-                .limit(len2 - len1 + 1)
-                .filter(i -> str2.substring(i, i + len1).equals(str1))
-                .forEach(result::add);
-        return result;
-    }
-
-    /**
-     * Returns the first index of all beginning indices of target in the whole String.
-     *
-     * @param str1 The targeted String.
-     * @param str2 The whole String
-     * @return The first index of all beginning indices of target in the whole String.
-     */
-    private static int getFirstIndexOfStr1InStr2(String str1, String str2) {
-        ArrayList<Integer> indices = getIndicesOfStr1InStr2(str1, str2);
-        return indices.size() == 0 ? -1 : indices.get(0);
-    }
-
-    /**
-     * Returns an Arraylist of String separated as attributes from the given formatted String.
-     *
-     * @param string The given formatted String.
-     * @return The Arraylist of String separated as attributes from the given formatted String.
+     * The number of rows parsed together as one batch when parsing a TaskList.
      */
-    private static ArrayList<String> separateAttributes(String string) {
-        ArrayList<String> result = new ArrayList<>();
-        Arrays.stream(string.split(ATTRIBUTE_SEPARATOR)).forEach(s -> result.add(s.trim()));
-        return result;
-    }
+    private static final int PARSE_BATCH_SIZE = 4096;
 
     /**
      * Returns the formatted String by combining attributes of Strings.
@@ -88,9 +39,7 @@ public class Parser {
      * @return The formatted String.
      */
     public static String combineAttributes(String... strings) {
-        return Arrays.stream(strings)
-                .reduce("", (x, y) -> x + " " + ATTRIBUTE_SEPARATOR + " " + y)
-                .substring(ATTRIBUTE_SEPARATOR.length() + 2);
+        return String.join(" " + ATTRIBUTE_SEPARATOR + " ", strings);
     }
 
     /**
@@ -101,229 +50,188 @@ public class Parser {
      * @throws DukeException if the given String is not in correct format.
      */
     public static Command parseCommand(String s) throws DukeException {
-        Action action = Action.parseAction(s.trim().split(" ", 2)[0]);
-        switch (action) {
-        case GREET:
-            return new GreetCommand();
-        case EXIT:
-            return new ExitCommand();
-        case MARK:
-            return parseMarkCommand(s);
-        case UNMARK:
-            return parseUnmarkCommand(s);
-        case LIST:
-            return new ListCommand();
-        case TODO:
-            return parseTodoCommand(s);
-        case EVENT:
-            return parseEventCommand(s);
-        case DEADLINE:
-            return parseDeadlineCommand(s);
-        case DELETE:
-            return parseDeleteCommand(s);
-        case SAVE:
-            return new SaveCommand();
-        case READ:
-            return new ReadCommand();
-        case FIND:
-            return parseFindCommand(s);
-        case UNDO:
-            return new UndoCommand();
-        default:
-            return new DoNothingCommand();
-        }
-    }
-
-    protected static MarkCommand parseMarkCommand(String s) throws CompileException {
-        String arg1;
-        Action action = Action.MARK;
-        arg1 = s.substring(Action.convertToString(action).length()).trim();
-        if (arg1.equals("")) {
-            throw new NoArgumentException(action);
-        } else if (!isValidInt(arg1)) {
-            throw new InvalidArgumentException(action, "The argument should be an integer.");
-        }
-        return new MarkCommand(Integer.parseInt(arg1));
-    }
-
-    protected static UnmarkCommand parseUnmarkCommand(String s) throws CompileException {
-        String arg1;
-        Action action = Action.UNMARK;
-        arg1 = s.substring(Action.convertToString(action).length()).trim();
-        if (arg1.equals("")) {
-            throw new NoArgumentException(action);
-        } else if (!isValidInt(arg1)) {
-            throw new InvalidArgumentException(action, "The argument should be an integer.");
-        }
-        return new UnmarkCommand(Integer.parseInt(arg1));
+        CommandLexer lexer = CommandLexer.lex(s);
+        return CommandRegistry.get(lexer.getWord()).create(lexer);
     }
 
-    protected static TodoCommand parseTodoCommand(String s) throws CompileException {
-        String arg1;
-        Action action = Action.TODO;
-        arg1 = s.substring(Action.convertToString(action).length()).trim();
-        if (arg1.equals("")) {
-            throw new NoArgumentException(action);
-        } else if (!isValidString(arg1)) {
-            throw new InvalidArgumentException(action, "Todo details should not contain '}'.");
-        }
-        return new TodoCommand(arg1);
+    /**
+     * Returns the Task represented by given formatted String.
+     *
+     * @param formattedString The given formatted String.
+     * @return The Task represented by given formatted String.
+     * @throws ReadAttributeException if the String is not in correct format.
+     */
+    public static Task parseTask(String formattedString) throws ReadAttributeException {
+        return TaskRecordDecoder.decode(formattedString, 0);
     }
 
-    protected static EventCommand parseEventCommand(String s) throws CompileException {
-        String symbolEvent = " /at ";
-        String arg1;
-        String arg2;
-        int indexOfName;
-        int indexOfTime;
-        Action action = Action.EVENT;
-        if (!s.contains(symbolEvent)) {
-            throw new InvalidArgumentException(action, "Keyword: ["
-                    + symbolEvent + " ] or [Time] is not found.");
-        }
-        indexOfName = Action.convertToString(action).length();
-        indexOfTime = getFirstIndexOfStr1InStr2(symbolEvent, s);
-        arg1 = s.substring(indexOfName, indexOfTime).trim();
-        arg2 = s.substring(indexOfTime + symbolEvent.length()).trim();
-        if (arg1.equals("") && arg2.equals("")) {
-            throw new NoArgumentException(action);
-        } else if (!isValidString(arg1)) {
-            throw new InvalidArgumentException(action,
-                    "Event [Name] is not found.");
-        } else if (!isValidDate(arg2)) {
-            throw new InvalidArgumentException(action,
-                    "Event [Time] is not found.");
-        }
-        return new EventCommand(arg1, parseStringToDateTime(arg2));
+    /**
+     * Returns the TaskList represented by given formatted String.
+     *
+     * @param formattedString The given formatted String.
+     * @return The TaskList represented by given formatted String.
+     * @throws ReadAttributeException if the String is not in correct format.
+     */
+    public static TaskList parseTaskList(String formattedString) {
+        String[] rows = formattedString.split(System.lineSeparator());
+        return parseTaskList(Arrays.stream(rows));
     }
 
-    protected static DeadlineCommand parseDeadlineCommand(String s) throws CompileException {
-        String arg1;
-        String arg2;
-        int indexOfName;
-        int indexOfTime;
-        String symbolDeadline = " /by ";
-        Action action = Action.DEADLINE;
-        if (!s.contains(symbolDeadline)) {
-            throw new InvalidArgumentException(action, "Keyword: ["
-                    + symbolDeadline + " ] or [Time] is not found.");
+    /**
+     * Returns the TaskList represented by given rows of formatted String.
+     * The rows are streamed in batches, which are parsed in parallel and added to the TaskList in order.
+     *
+     * @param rows The given rows of formatted String.
+     * @return The TaskList represented by given rows of formatted String.
+     * @throws ReadAttributeException if any row is not in correct format.
+     */
+    public static TaskList parseTaskList(Stream<String> rows) {
+        TaskList result = new TaskList();
+        int maxPendingBatches = 2 * ForkJoinPool.getCommonPoolParallelism();
+        ArrayDeque<ForkJoinTask<List<Task>>> pendingBatches = new ArrayDeque<>();
+        ArrayList<String> batch = new ArrayList<>();
+        int batchFirstLine = 1;
+        Iterator<String> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            if (batch.size() == PARSE_BATCH_SIZE) {
+                List<String> fullBatch = batch;
+                int firstLine = batchFirstLine;
+                pendingBatches.add(ForkJoinPool.commonPool().submit(() -> parseTasks(fullBatch, firstLine)));
+                batch = new ArrayList<>();
+                batchFirstLine += PARSE_BATCH_SIZE;
+            }
+            if (pendingBatches.size() > maxPendingBatches) {
+                pendingBatches.poll().join().forEach(task -> result.add(task));
+            }
         }
-        indexOfName = Action.convertToString(action).length();
-        indexOfTime = getFirstIndexOfStr1InStr2(symbolDeadline, s);
-        arg1 = s.substring(indexOfName, indexOfTime).trim();
-        arg2 = s.substring(indexOfTime + symbolDeadline.length()).trim();
-
-        if (arg1.equals("") && arg2.equals("")) {
-            throw new NoArgumentException(action);
-        } else if (!isValidString(arg1)) {
-            throw new InvalidArgumentException(action,
-                    "Deadline [Name] is not found.");
-        } else if (!isValidDate(arg2)) {
-            throw new InvalidArgumentException(action,
-                    "Deadline [Time] is not found.");
+        while (!pendingBatches.isEmpty()) {
+            pendingBatches.poll().join().forEach(task -> result.add(task));
         }
-
-        return new DeadlineCommand(arg1, parseStringToDateTime(arg2));
+        parseTasks(batch, batchFirstLine).forEach(task -> result.add(task));
+        return result;
     }
 
-    protected static FindCommand parseFindCommand(String s) throws CompileException {
-        String arg1;
-        Action action = Action.FIND;
-        arg1 = s.substring(Action.convertToString(action).length()).trim();
-        if (arg1.equals("")) {
-            throw new NoArgumentException(action);
-        } else if (!isValidString(arg1)) {
-            throw new InvalidArgumentException(action, "The argument should be a String.");
+    /**
+     * Returns the Tasks represented by given rows of formatted String, skipping blank rows.
+     *
+     * @param rows The given rows of formatted String.
+     * @param firstLine The line number of the first row.
+     * @return The Tasks represented by given rows of formatted String.
+     * @throws ReadAttributeException if any row is not in correct format.
+     */
+    private static List<Task> parseTasks(List<String> rows, int firstLine) {
+        ArrayList<Task> result = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            String row = rows.get(i);
+            if (!row.isBlank()) {
+                result.add(TaskRecordDecoder.decode(row, firstLine + i));
+            }
         }
-        return new FindCommand(arg1);
+        return result;
     }
 
     /**
-     * Returns the Task represented by given formatted String.
+     * Returns the Change represented by given formatted String.
      *
      * @param formattedString The given formatted String.
-     * @return The Task represented by given formatted String.
+     * @return The Change represented by given formatted String.
      * @throws ReadAttributeException if the String is not in correct format.
      */
-    public static Task parseTask(String formattedString) throws ReadAttributeException {
-        ArrayList<String> attributes = Parser.separateAttributes(formattedString);
-        switch (attributes.get(0)) {
-        case Todo.SYMBOL:
-            return parseTodo(formattedString);
-        case Event.SYMBOL:
-            return parseEvent(formattedString);
-        case Deadline.SYMBOL:
-            return parseDeadline(formattedString);
+    public static Change parseChange(String formattedString) throws ReadAttributeException {
+        String[] rows = formattedString.trim().split("\\r?\\n");
+        return parseChange(rows, 0, rows.length);
+    }
+
+    /**
+     * Returns the Change represented by the given range of rows.
+     *
+     * @param rows The rows holding the range.
+     * @param start The index of the first row of the Change.
+     * @param end The index after the last row of the Change.
+     * @return The Change represented by the given range of rows.
+     * @throws ReadAttributeException if the rows are not in correct format.
+     */
+    private static Change parseChange(String[] rows, int start, int end) throws ReadAttributeException {
+        String[] attributes = separateChangeAttributes(rows[start]);
+        int index = Integer.parseInt(attributes[1].trim());
+        switch (attributes[0].trim()) {
+        case AddChange.SYMBOL:
+            return new AddChange(index, parseTask(attributes[2].trim()));
+        case RemoveChange.SYMBOL:
+            return new RemoveChange(index, parseTask(attributes[2].trim()));
+        case MarkChange.SYMBOL:
+            return new MarkChange(index, convertIntToBool(Integer.parseInt(attributes[2].trim())));
+        case ReplaceChange.SYMBOL:
+            return parseReplaceChange(rows, start, end, index, Integer.parseInt(attributes[2].trim()));
+        case CompositeChange.SYMBOL:
+            return parseCompositeChange(rows, start, end, index);
         default:
             throw new ReadAttributeException(
-                    "Task", formattedString, "Task Symbol: [" + attributes.get(0) + "] is invalid.");
+                    "Change", rows[start], "Change Symbol: [" + attributes[0].trim() + "] is invalid.");
         }
     }
 
-    protected static DeleteCommand parseDeleteCommand(String s) throws CompileException {
-        String arg1;
-        Action action = Action.DELETE;
-        arg1 = s.substring(Action.convertToString(action).length()).trim();
-        if (arg1.equals("")) {
-            throw new NoArgumentException(action);
-        } else if (!isValidInt(arg1)) {
-            throw new InvalidArgumentException(action, "The argument should be an integer.");
+    private static String[] separateChangeAttributes(String header) throws ReadAttributeException {
+        String[] attributes = header.split(ATTRIBUTE_SEPARATOR, 3);
+        if (attributes.length < 3 || !isValidInt(attributes[1].trim())) {
+            throw new ReadAttributeException("Change", header, "Attributes are invalid.");
         }
-        return new DeleteCommand(Integer.parseInt(arg1));
+        return attributes;
     }
 
-    protected static Event parseEvent(String formattedString) {
-        ArrayList<String> attributes = Parser.separateAttributes(formattedString);
-        if (attributes.size() < 4) {
-            throw new ReadAttributeException("Event", formattedString, "Number of attributes less than 4");
-        }
-        Event result = new Event(attributes.get(2), parseStringToDateTime(attributes.get(3)));
-        if (convertIntToBool(Integer.parseInt(attributes.get(1))) == true) {
-            result.markAsDone();
+    /**
+     * Returns the number of rows taken by the Change starting with the given header row.
+     *
+     * @param header The first row of the Change.
+     * @return The number of rows.
+     * @throws ReadAttributeException if the header is not in correct format.
+     */
+    private static int getChangeRowCount(String header) throws ReadAttributeException {
+        String[] attributes = separateChangeAttributes(header);
+        switch (attributes[0].trim()) {
+        case ReplaceChange.SYMBOL:
+            return 1 + Integer.parseInt(attributes[1].trim()) + Integer.parseInt(attributes[2].trim());
+        case CompositeChange.SYMBOL:
+            return 1 + Integer.parseInt(attributes[2].trim());
+        default:
+            return 1;
         }
-        return result;
     }
 
-    protected static Deadline parseDeadline(String formattedString) {
-        ArrayList<String> attributes = Parser.separateAttributes(formattedString);
-        if (attributes.size() < 4) {
-            throw new ReadAttributeException("Deadline", formattedString, "Number of attributes less than 4");
+    private static ReplaceChange parseReplaceChange(String[] rows, int start, int end, int oldSize, int newSize) {
+        if (end - start != oldSize + newSize + 1) {
+            throw new ReadAttributeException("ReplaceChange", rows[start], "Number of Tasks does not match.");
         }
-        Deadline result = new Deadline(attributes.get(2), parseStringToDateTime(attributes.get(3)));
-        if (convertIntToBool(Integer.parseInt(attributes.get(1))) == true) {
-            result.markAsDone();
+        TaskList oldTaskList = new TaskList();
+        TaskList newTaskList = new TaskList();
+        for (int i = start + 1; i <= start + oldSize; i++) {
+            oldTaskList.add(parseTask(rows[i].trim()));
         }
-        return result;
+        for (int i = start + oldSize + 1; i < end; i++) {
+            newTaskList.add(parseTask(rows[i].trim()));
+        }
+        return new ReplaceChange(oldTaskList, newTaskList);
     }
 
-    protected static Todo parseTodo(String formattedString) {
-        ArrayList<String> attributes = Parser.separateAttributes(formattedString);
-        if (attributes.size() < 3) {
-            throw new ReadAttributeException("Todo", formattedString, "Number of attributes less than 3");
+    private static CompositeChange parseCompositeChange(String[] rows, int start, int end, int size) {
+        ArrayList<Change> changes = new ArrayList<>(size);
+        int row = start + 1;
+        for (int i = 0; i < size; i++) {
+            if (row >= end) {
+                throw new ReadAttributeException("CompositeChange", rows[start], "Number of Changes does not match.");
+            }
+            int changeEnd = row + getChangeRowCount(rows[row]);
+            if (changeEnd > end) {
+                throw new ReadAttributeException("CompositeChange", rows[start], "Number of rows does not match.");
+            }
+            changes.add(parseChange(rows, row, changeEnd));
+            row = changeEnd;
         }
-        Todo result = new Todo(attributes.get(2));
-        if (Parser.convertIntToBool(Integer.parseInt(attributes.get(1))) == true) {
-            result.markAsDone();
+        if (row != end) {
+            throw new ReadAttributeException("CompositeChange", rows[start], "Number of rows does not match.");
         }
-        return result;
-    }
-
-    /**
-     * Returns the TaskList represented by given formatted String.
-     *
-     * @param formattedString The given formatted String.
-     * @return The TaskList represented by given formatted String.
-     * @throws ReadAttributeException if the String is not in correct format.
-     */
-    public static TaskList parseTaskList(String formattedString) {
-        TaskList result = new TaskList();
-        String[] rows = formattedString.split(System.lineSeparator());
-        Arrays.stream(rows)
-                .filter(s -> !s.trim().equals(""))
-                .map(s -> s.trim())
-                .map(s -> Parser.parseTask(s))
-                .forEach(task -> result.add(task));
-        return result;
+        return new CompositeChange(changes);
     }
 
     private static boolean isValidInt(String s) {
@@ -335,19 +243,16 @@ public class Parser {
         }
     }
 
-    private static boolean isValidString(String input) {
+    /**
+     * Returns whether the given String can be stored as an attribute of a Task.
+     *
+     * @param input The given String.
+     * @return The boolean whether the String is non-empty and does not contain the attribute separator.
+     */
+    public static boolean isValidString(String input) {
         return input != null && !input.equals("") && !input.contains(ATTRIBUTE_SEPARATOR);
     }
 
-    private static boolean isValidDate(String input) {
-        try {
-            LocalDateTime.parse(input, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
     /**
      * Returns the number representation of a given boolean.
      *
@@ -391,7 +296,7 @@ public class Parser {
      * @return The String representation of given LocalDateTime.
      */
     public static String parseDateTimeToString(LocalDateTime localDateTime) {
-        return localDateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+        return DateTimeCodec.format(localDateTime);
     }
 
     /**
@@ -401,9 +306,6 @@ public class Parser {
      * @return The LocalDateTime from given String representation.
      */
     public static LocalDateTime parseStringToDateTime(String string) throws ReadAttributeException {
-        if (!isValidDate(string)) {
-            throw new ReadAttributeException("Parser", string, "Date is invalid.");
-        }
-        return LocalDateTime.parse(string, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+        return DateTimeCodec.parse(string);
     }
 }
@@ -0,0 +1,201 @@
+package duke.util;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import duke.task.Task;
+
+/**
+ * Represents a TaskSequence backed by a persistent, size-balanced AVL tree.
+ * Every modification copies only the O(log n) nodes on the path it touches and shares
+ * the rest with earlier versions, so taking a snapshot takes O(1) time.
+ * Tasks in the sequence are treated as values and must not be modified in place.
+ */
+public class PersistentTaskSequence implements TaskSequence {
+    private Node root;
+
+    /**
+     * Constructs an empty PersistentTaskSequence.
+     */
+    public PersistentTaskSequence() {
+        this(null);
+    }
+
+    private PersistentTaskSequence(Node root) {
+        this.root = root;
+    }
+
+    @Override
+    public Task get(int i) {
+        checkIndex(i, size());
+        Node node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (i < leftSize) {
+                node = node.left;
+            } else if (i == leftSize) {
+                return node.task;
+            } else {
+                i = i - leftSize - 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public Task set(int i, Task task) {
+        Task old = get(i);
+        root = setAt(root, i, task);
+        return old;
+    }
+
+    @Override
+    public void add(int i, Task task) {
+        checkIndex(i, size() + 1);
+        root = insertAt(root, i, task);
+    }
+
+    @Override
+    public Task remove(int i) {
+        Task old = get(i);
+        root = removeAt(root, i);
+        return old;
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns a TaskSequence sharing the current tree. Takes O(1) time.
+     * @return The snapshot of this TaskSequence.
+     */
+    @Override
+    public TaskSequence snapshot() {
+        return new PersistentTaskSequence(root);
+    }
+
+    @Override
+    public Iterator<Task> iterator() {
+        return new Iterator<>() {
+            private final ArrayDeque<Node> path = new ArrayDeque<>();
+            private Node next = root;
+
+            @Override
+            public boolean hasNext() {
+                return next != null || !path.isEmpty();
+            }
+
+            @Override
+            public Task next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                while (next != null) {
+                    path.push(next);
+                    next = next.left;
+                }
+                Node node = path.pop();
+                next = node.right;
+                return node.task;
+            }
+        };
+    }
+
+    private static void checkIndex(int i, int bound) {
+        if (i < 0 || i >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + bound);
+        }
+    }
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static Node setAt(Node node, int i, Task task) {
+        int leftSize = sizeOf(node.left);
+        if (i < leftSize) {
+            return new Node(node.task, setAt(node.left, i, task), node.right);
+        } else if (i == leftSize) {
+            return new Node(task, node.left, node.right);
+        } else {
+            return new Node(node.task, node.left, setAt(node.right, i - leftSize - 1, task));
+        }
+    }
+
+    private static Node insertAt(Node node, int i, Task task) {
+        if (node == null) {
+            return new Node(task, null, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (i <= leftSize) {
+            return balance(node.task, insertAt(node.left, i, task), node.right);
+        } else {
+            return balance(node.task, node.left, insertAt(node.right, i - leftSize - 1, task));
+        }
+    }
+
+    private static Node removeAt(Node node, int i) {
+        int leftSize = sizeOf(node.left);
+        if (i < leftSize) {
+            return balance(node.task, removeAt(node.left, i), node.right);
+        } else if (i > leftSize) {
+            return balance(node.task, node.left, removeAt(node.right, i - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            return balance(successor.task, node.left, removeAt(node.right, 0));
+        }
+    }
+
+    private static Node balance(Task task, Node left, Node right) {
+        int difference = heightOf(left) - heightOf(right);
+        if (difference > 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node(left.task, left.left, new Node(task, left.right, right));
+            }
+            return new Node(left.right.task,
+                    new Node(left.task, left.left, left.right.left),
+                    new Node(task, left.right.right, right));
+        } else if (difference < -1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node(right.task, new Node(task, left, right.left), right.right);
+            }
+            return new Node(right.left.task,
+                    new Node(task, left, right.left.left),
+                    new Node(right.task, right.left.right, right.right));
+        }
+        return new Node(task, left, right);
+    }
+
+    /**
+     * Represents an immutable node of the tree.
+     */
+    private static final class Node {
+        private final Task task;
+        private final Node left;
+        private final Node right;
+        private final int size;
+        private final int height;
+
+        private Node(Task task, Node left, Node right) {
+            this.task = task;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+}
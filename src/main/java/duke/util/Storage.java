@@ -1,30 +1,69 @@
 package duke.util;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Scanner;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
 
 import duke.exception.ReadFileException;
 import duke.exception.WriteFileException;
+import duke.history.Change;
 
 /**
  * The IO part of Duke.
  */
 public class Storage {
+    /**
+     * The system property selecting the format the whole TaskList is written in.
+     */
+    public static final String FORMAT_PROPERTY = "duke.storage.format";
+
+    /**
+     * The value of the system property selecting the binary format.
+     */
+    public static final String FORMAT_BINARY = "binary";
+
+    private static final String JOURNAL_HEADER = "# ";
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int BINARY_HEADER_LENGTH = 4;
+
     /**
      * The Path of the file.
      */
     private final Path path;
 
+    /**
+     * The Path of the journal, which holds the Changes saved after the file was last written.
+     */
+    private final Path journalPath;
+
+    /**
+     * The checksum of the file content, or -1 if it is not known yet.
+     */
+    private long checksum = -1;
+
     /**
      * Constructs Storage.
      * @param path
      */
     public Storage(String path) {
         this.path = Paths.get(path);
+        this.journalPath = this.path.resolveSibling(this.path.getFileName() + ".journal");
         initialize();
     }
 
@@ -51,6 +90,7 @@ public class Storage {
             FileWriter fileWriter = new FileWriter(this.path.toFile());
             fileWriter.write(content);
             fileWriter.close();
+            this.checksum = -1;
         } catch (IOException ioException) {
             throw new WriteFileException(this.path, "Unable to write the file.");
         }
@@ -65,21 +105,162 @@ public class Storage {
     }
 
     /**
-     * Reads given content from the Path.
-     * @return The content in the Path. Returns empty String if file does not exist.
+     * Writes the whole TaskList to the Path and clears the journal.
+     * The file is replaced atomically, so that it is never left half written.
+     * @param tasks The TaskList.
      */
-    public String read() {
-        String result = "";
+    public void checkpoint(TaskList tasks) {
         initialize();
+        byte[] bytes;
+        if (isBinaryFormat()) {
+            ByteBuffer buffer = BinaryTaskListCodec.encode(tasks);
+            bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+        } else {
+            bytes = tasks.toFormattedString().getBytes(StandardCharsets.UTF_8);
+        }
+        Path temp = this.path.resolveSibling(this.path.getFileName() + ".tmp");
         try {
-            Scanner scanner = new Scanner(this.path);
-            while (scanner.hasNextLine()) {
-                result = result + scanner.nextLine() + System.lineSeparator();
-            }
+            Files.write(temp, bytes);
+            Files.move(temp, this.path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.deleteIfExists(this.journalPath);
         } catch (IOException ioException) {
+            throw new WriteFileException(this.path, "Unable to write the file.");
+        }
+        this.checksum = getChecksum(bytes);
+    }
+
+    /**
+     * Appends given Changes to the journal, one record per line.
+     * A new journal starts with the checksum of the file it applies to, so that a journal left
+     * behind by an interrupted checkpoint is never replayed on top of the new file.
+     * @param changes The given Changes.
+     */
+    public void append(List<Change> changes) {
+        initialize();
+        StringBuilder records = new StringBuilder();
+        if (!Files.exists(this.journalPath) || this.journalPath.toFile().length() == 0) {
+            records.append(JOURNAL_HEADER).append(getChecksum()).append(System.lineSeparator());
+        }
+        changes.forEach(change -> records.append(change.toFormattedString()).append(System.lineSeparator()));
+        try {
+            Files.write(this.journalPath, records.toString().getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException ioException) {
+            throw new WriteFileException(this.journalPath, "Unable to write the journal.");
+        }
+    }
+
+    /**
+     * Returns whether the journal has grown larger than the file, such that the next save
+     * should write the whole TaskList instead.
+     * @return The boolean whether a checkpoint is due.
+     */
+    public boolean isCheckpointDue() {
+        int minJournalLength = 64 * 1024;
+        long journalLength = this.journalPath.toFile().length();
+        return journalLength > Math.max(minJournalLength, this.path.toFile().length());
+    }
+
+    /**
+     * Returns the TaskList in the Path, with the Changes in the journal applied.
+     * @return The TaskList.
+     */
+    public TaskList readTaskList() {
+        initialize();
+        TaskList tasks;
+        try (FileChannel channel = FileChannel.open(this.path)) {
+            ByteBuffer header = ByteBuffer.allocate(BINARY_HEADER_LENGTH);
+            channel.read(header, 0);
+            if (BinaryTaskListCodec.isBinary(header.flip())) {
+                tasks = readBinaryTaskList(channel);
+            } else {
+                tasks = readTextTaskList();
+            }
+        } catch (IOException | UncheckedIOException exception) {
             throw new ReadFileException(this.path, "Unable to read the file.");
         }
-        return result;
+        try {
+            return replayJournal(tasks);
+        } catch (IOException | UncheckedIOException exception) {
+            throw new ReadFileException(this.journalPath, "Unable to read the journal.");
+        }
+    }
+
+    private TaskList readTextTaskList() throws IOException {
+        try (CheckedInputStream input = new CheckedInputStream(Files.newInputStream(this.path), new CRC32());
+                BufferedReader reader = newBufferedReader(input)) {
+            TaskList tasks = Parser.parseTaskList(reader.lines());
+            this.checksum = input.getChecksum().getValue();
+            return tasks;
+        }
+    }
+
+    private TaskList readBinaryTaskList(FileChannel channel) throws IOException {
+        ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        CRC32 crc32 = new CRC32();
+        crc32.update(buffer.duplicate());
+        this.checksum = crc32.getValue();
+        return BinaryTaskListCodec.decode(buffer);
+    }
+
+    /**
+     * Returns the given TaskList with the Changes in the journal applied, if the journal applies to the file.
+     * @param tasks The TaskList in the file.
+     * @return The TaskList with the Changes applied.
+     */
+    private TaskList replayJournal(TaskList tasks) throws IOException {
+        if (!Files.exists(this.journalPath) || Files.size(this.journalPath) == 0) {
+            return tasks;
+        }
+        // the last record is incomplete if Duke stopped while appending it
+        boolean isLastRecordComplete;
+        try (FileChannel channel = FileChannel.open(this.journalPath)) {
+            ByteBuffer lastByte = ByteBuffer.allocate(1);
+            channel.read(lastByte, channel.size() - 1);
+            isLastRecordComplete = lastByte.get(0) == '\n';
+        }
+        try (BufferedReader reader = newBufferedReader(Files.newInputStream(this.journalPath))) {
+            String header = reader.readLine();
+            if (!header.equals(JOURNAL_HEADER + this.checksum)) {
+                return tasks;
+            }
+            String record = reader.readLine();
+            while (record != null) {
+                String nextRecord = reader.readLine();
+                if (nextRecord != null || isLastRecordComplete) {
+                    tasks = Parser.parseChange(record).apply(tasks);
+                }
+                record = nextRecord;
+            }
+        }
+        return tasks;
+    }
+
+    private static boolean isBinaryFormat() {
+        return FORMAT_BINARY.equals(System.getProperty(FORMAT_PROPERTY));
+    }
+
+    private long getChecksum() {
+        if (this.checksum < 0) {
+            try (CheckedInputStream input = new CheckedInputStream(Files.newInputStream(this.path), new CRC32())) {
+                input.transferTo(OutputStream.nullOutputStream());
+                this.checksum = input.getChecksum().getValue();
+            } catch (IOException ioException) {
+                throw new ReadFileException(this.path, "Unable to read the file.");
+            }
+        }
+        return this.checksum;
+    }
+
+    private static long getChecksum(byte[] bytes) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(bytes);
+        return crc32.getValue();
+    }
+
+    private static BufferedReader newBufferedReader(InputStream input) {
+        return new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), BUFFER_SIZE);
     }
 
     /**
@@ -1,7 +1,9 @@
 package duke.util;
 
 import java.util.ArrayList;
-import java.util.stream.Stream;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 
 import duke.exception.TaskAlreadyExistException;
 import duke.exception.TaskNotFoundException;
@@ -11,45 +13,160 @@ import duke.task.Task;
 /**
  * Represents the memory that Duke uses for Tasks.
  */
-public class TaskList implements Savable<TaskList> {
+public class TaskList implements Savable<TaskList>, Iterable<Task> {
+    /**
+     * The number of Tasks from which searches build the search index rather than visit every Task.
+     */
+    private static final int MIN_INDEXED_SIZE = 1024;
+
     /**
      * The collection of Tasks.
      */
-    private final ArrayList<Task> tasks = new ArrayList<>();
+    private final TaskSequence tasks;
+
+    /**
+     * The identity keys of all Tasks in the collection, used to reject duplicated Tasks in O(1).
+     * It is built on first use, so that snapshots which are only read never pay for it.
+     * Tasks must not be renamed or rescheduled while they are in the collection.
+     */
+    private HashSet<Object> identityKeys;
+
+    /**
+     * The index used to find Tasks by name. It is built on the first search and kept in step afterwards.
+     * Searches may run at the same time, so it is built once under the lock of the TaskList.
+     */
+    private volatile TaskSearchIndex searchIndex;
+
+    /**
+     * The listeners notified of every change. Snapshots and clones do not inherit them.
+     */
+    private ArrayList<TaskListListener> listeners;
+
+    /**
+     * Constructs an empty TaskList, backed by the TaskSequence selected at startup.
+     */
+    public TaskList() {
+        this(TaskSequence.create());
+        this.identityKeys = new HashSet<>();
+    }
+
+    private TaskList(TaskSequence tasks) {
+        this.tasks = tasks;
+    }
 
     /**
      * Adds a given Task to the collection.
      * @param task The given task.
      */
     public void add(Task task) {
-        boolean hasSameTask = tasks.stream().anyMatch(x -> x.isSameTask(task));
+        add(tasks.size(), task);
+    }
+
+    /**
+     * Adds a given Task to the collection at given index.
+     * @param i The given index.
+     * @param task The given task.
+     * @throws TaskNotFoundException if given index is invalid.
+     */
+    public void add(int i, Task task) throws TaskNotFoundException {
+        if (i != this.size()) {
+            throwIfNotValidIndex(i);
+        }
+        addIdentityKey(task);
+        tasks.add(i, task);
+        if (searchIndex != null) {
+            Task previous = i > 0 ? tasks.get(i - 1) : null;
+            Task next = i + 1 < tasks.size() ? tasks.get(i + 1) : null;
+            searchIndex.add(task, previous, next, tasks);
+        }
+        if (listeners != null) {
+            for (TaskListListener listener : listeners) {
+                listener.onAdded(i, task);
+            }
+        }
+    }
+
+    /**
+     * Registers a listener to be notified of every later change to this TaskList.
+     * @param listener The given listener.
+     */
+    public void addListener(TaskListListener listener) {
+        if (listeners == null) {
+            listeners = new ArrayList<>();
+        }
+        listeners.add(listener);
+    }
+
+    /**
+     * Stops notifying the given listener.
+     * @param listener The given listener.
+     */
+    public void removeListener(TaskListListener listener) {
+        if (listeners != null) {
+            listeners.remove(listener);
+        }
+    }
+
+    /**
+     * Records the identity key of a given Task.
+     * @param task The given task.
+     * @throws TaskAlreadyExistException if the same Task is already in the collection.
+     */
+    private void addIdentityKey(Task task) throws TaskAlreadyExistException {
+        boolean hasSameTask = !getIdentityKeys().add(task.getIdentityKey());
         if (hasSameTask) {
             throw new TaskAlreadyExistException(task);
         }
-        tasks.add(task);
     }
 
     /**
-     * Returns an identical TaskList as this.
+     * Returns the identity keys of all Tasks in the collection, building them if needed.
+     * @return The identity keys.
+     */
+    private HashSet<Object> getIdentityKeys() {
+        if (identityKeys == null) {
+            identityKeys = new HashSet<>();
+            tasks.forEach(task -> identityKeys.add(task.getIdentityKey()));
+        }
+        return identityKeys;
+    }
+
+    /**
+     * Returns a TaskList holding the same Tasks, which is not affected by later modifications to this one.
+     * Takes O(1) time when the TaskList is backed by a PersistentTaskSequence.
+     * @return The snapshot of this TaskList.
+     */
+    public TaskList snapshot() {
+        return new TaskList(tasks.snapshot());
+    }
+
+    /**
+     * Returns an identical TaskList as this. Tasks are immutable, so the copy shares them as a snapshot does.
      * @return An identical TaskList.
      */
     public TaskList clone() {
-        TaskList result = new TaskList();
-        tasks.forEach(task -> result.add(task.clone()));
-        return result;
+        return snapshot();
     }
 
     /**
-     * Returns a boolean whether the given ArrayList is equals to the internal TaskList.
-     * @param taskArrayList The given ArrayList of Tasks.
-     * @return The boolean whether the given ArrayList is equals to the internal TaskList.
+     * Returns a boolean whether the given TaskSequence holds the same Tasks as the internal one.
+     * @param taskSequence The given TaskSequence.
+     * @return The boolean whether the given TaskSequence holds the same Tasks as the internal one.
      */
-    protected boolean isIdenticalTaskList(ArrayList<Task> taskArrayList) {
-        return this.tasks == taskArrayList
-                ? true
-                : this.tasks == null || taskArrayList == null
-                ? false
-                : this.tasks.equals(taskArrayList);
+    protected boolean isIdenticalTaskList(TaskSequence taskSequence) {
+        if (this.tasks == taskSequence) {
+            return true;
+        }
+        if (this.tasks == null || taskSequence == null || this.tasks.size() != taskSequence.size()) {
+            return false;
+        }
+        Iterator<Task> iterator = taskSequence.iterator();
+        for (Task task : this.tasks) {
+            if (!task.equals(iterator.next())) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -79,7 +196,90 @@ public class TaskList implements Savable<TaskList> {
      */
     public Task remove(int i) throws TaskNotFoundException {
         throwIfNotValidIndex(i);
-        return this.tasks.remove(i);
+        Task task = this.tasks.remove(i);
+        getIdentityKeys().remove(task.getIdentityKey());
+        if (searchIndex != null) {
+            searchIndex.remove(task);
+        }
+        if (listeners != null) {
+            for (TaskListListener listener : listeners) {
+                listener.onRemoved(i, task);
+            }
+        }
+        return task;
+    }
+
+    /**
+     * Sets the done status of the Task at given index. The Task is replaced by an updated copy
+     * rather than modified in place, so that snapshots sharing it are not affected.
+     * @param i The given index.
+     * @param isDone The done status.
+     * @return The updated Task.
+     * @throws TaskNotFoundException if given index is invalid.
+     */
+    public Task setIsDone(int i, boolean isDone) throws TaskNotFoundException {
+        throwIfNotValidIndex(i);
+        Task task = this.tasks.get(i).withIsDone(isDone);
+        Task oldTask = this.tasks.set(i, task);
+        if (searchIndex != null) {
+            searchIndex.replace(oldTask, task);
+        }
+        if (listeners != null) {
+            for (TaskListListener listener : listeners) {
+                listener.onUpdated(i, oldTask, task);
+            }
+        }
+        return task;
+    }
+
+    /**
+     * Returns the Tasks whose names contain the given String, in order. Searches may run at the same time as
+     * each other, but not while the TaskList is changed. The search index is only built once the TaskList is
+     * large enough to benefit from it, and targets shorter than a trigram, which match most Tasks, are found by
+     * visiting every Task.
+     * @param target The given String.
+     * @return The matching Tasks.
+     */
+    public List<Task> find(String target) {
+        if (target.length() < TaskSearchIndex.GRAM_LENGTH || (searchIndex == null && size() < MIN_INDEXED_SIZE)) {
+            ArrayList<Task> result = new ArrayList<>();
+            for (Task task : tasks) {
+                if (task.getName().contains(target)) {
+                    result.add(task);
+                }
+            }
+            return result;
+        }
+        TaskSearchIndex index = searchIndex;
+        if (index == null) {
+            synchronized (this) {
+                if (searchIndex == null) {
+                    searchIndex = new TaskSearchIndex(tasks);
+                }
+                index = searchIndex;
+            }
+        }
+        return index.find(target);
+    }
+
+    /**
+     * Returns an Iterator over the Tasks in order, which does not support removal.
+     * @return The Iterator over the Tasks.
+     */
+    @Override
+    public Iterator<Task> iterator() {
+        Iterator<Task> iterator = this.tasks.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Task next() {
+                return iterator.next();
+            }
+        };
     }
 
     /**
@@ -108,11 +308,12 @@ public class TaskList implements Savable<TaskList> {
      */
     @Override
     public String toString() {
-        String message = Stream.iterate(0, x -> x + 1)
-                .limit(tasks.size())
-                .map(x -> x + 1 + ". " + tasks.get(x).toString())
-                .reduce("", (x, y) -> x + y + "\n");
-        return message;
+        StringBuilder s = new StringBuilder();
+        int i = 1;
+        for (Task task : this.tasks) {
+            s.append(i++).append(". ").append(task).append("\n");
+        }
+        return s.toString();
     }
 
     /**
@@ -121,12 +322,11 @@ public class TaskList implements Savable<TaskList> {
      */
     @Override
     public String toFormattedString() {
-        String s;
-        s = Stream.iterate(0, x -> x + 1)
-                .limit(tasks.size())
-                .map(x -> this.tasks.get(x).toFormattedString())
-                .reduce("", (x, y) -> x + y + "\n");
-        return s;
+        StringBuilder s = new StringBuilder();
+        for (Task task : this.tasks) {
+            s.append(task.toFormattedString()).append("\n");
+        }
+        return s.toString();
     }
 
     /**
@@ -0,0 +1,37 @@
+package duke.util;
+
+import duke.task.Task;
+
+/**
+ * The listener of the changes to a TaskList, notified once per Task after each change, on the thread that makes it.
+ */
+public interface TaskListListener {
+    /**
+     * Handles a Task added to the TaskList.
+     * @param i The index of the added Task.
+     * @param task The added Task.
+     */
+    void onAdded(int i, Task task);
+
+    /**
+     * Handles a Task removed from the TaskList.
+     * @param i The index the Task was at.
+     * @param task The removed Task.
+     */
+    void onRemoved(int i, Task task);
+
+    /**
+     * Handles a Task replaced by an updated copy, such as when it is marked as done.
+     * @param i The index of the Task.
+     * @param oldTask The Task before the update.
+     * @param newTask The Task after the update.
+     */
+    void onUpdated(int i, Task oldTask, Task newTask);
+
+    /**
+     * Handles the whole TaskList being replaced, such as when it is read from the Storage, and when the listener
+     * starts listening to Duke.
+     * @param tasks The TaskList now in use.
+     */
+    void onReplaced(TaskList tasks);
+}
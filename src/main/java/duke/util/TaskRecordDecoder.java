@@ -0,0 +1,128 @@
+package duke.util;
+
+import java.time.LocalDateTime;
+
+import duke.exception.ReadAttributeException;
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.Task;
+import duke.task.Todo;
+
+/**
+ * The decoder of a Task from its formatted String, such as "D } 0 } return book } 2022-08-25 23:45".
+ * The record is scanned once, its attributes are kept as spans of the record, and only the name is copied
+ * into a new String. Errors are reported with the line and column of the attribute at fault.
+ */
+public class TaskRecordDecoder {
+    private static final char ATTRIBUTE_SEPARATOR = Parser.getAttributeSeparator().charAt(0);
+    private static final int MAX_ATTRIBUTES = 4;
+    private static final int TODO_ATTRIBUTES = 3;
+    private static final int TIMED_ATTRIBUTES = 4;
+
+    private final String record;
+    private final int line;
+    private final int[] starts = new int[MAX_ATTRIBUTES];
+    private final int[] ends = new int[MAX_ATTRIBUTES];
+    private int count;
+
+    private TaskRecordDecoder(String record, int line) {
+        this.record = record;
+        this.line = line;
+    }
+
+    /**
+     * Returns the Task represented by the given formatted String.
+     * @param record The given formatted String.
+     * @param line The line number of the formatted String, starting from 1, or 0 if unknown.
+     * @return The Task.
+     * @throws ReadAttributeException if the String is not in correct format.
+     */
+    public static Task decode(String record, int line) throws ReadAttributeException {
+        TaskRecordDecoder decoder = new TaskRecordDecoder(record, line);
+        decoder.scan();
+        return decoder.decodeTask();
+    }
+
+    /**
+     * Finds the trimmed spans of the attributes. Attributes after the last one used by any Task are ignored.
+     */
+    private void scan() {
+        int start = 0;
+        while (count < MAX_ATTRIBUTES) {
+            int separator = record.indexOf(ATTRIBUTE_SEPARATOR, start);
+            int end = separator < 0 ? record.length() : separator;
+            int trimmedStart = start;
+            while (trimmedStart < end && Character.isWhitespace(record.charAt(trimmedStart))) {
+                trimmedStart++;
+            }
+            int trimmedEnd = end;
+            while (trimmedEnd > trimmedStart && Character.isWhitespace(record.charAt(trimmedEnd - 1))) {
+                trimmedEnd--;
+            }
+            starts[count] = trimmedStart;
+            ends[count] = trimmedEnd;
+            count++;
+            if (separator < 0) {
+                return;
+            }
+            start = separator + 1;
+        }
+    }
+
+    private Task decodeTask() {
+        if (ends[0] - starts[0] != 1) {
+            throw error(0, "Task Symbol: [" + getAttribute(0) + "] is invalid.");
+        }
+        Task task;
+        switch (record.charAt(starts[0])) {
+        case 'T':
+            requireAttributes("Todo", TODO_ATTRIBUTES);
+            task = new Todo(getAttribute(2), decodeIsDone(1));
+            break;
+        case 'E':
+            requireAttributes("Event", TIMED_ATTRIBUTES);
+            task = new Event(getAttribute(2), decodeTime(3), decodeIsDone(1));
+            break;
+        case 'D':
+            requireAttributes("Deadline", TIMED_ATTRIBUTES);
+            task = new Deadline(getAttribute(2), decodeTime(3), decodeIsDone(1));
+            break;
+        default:
+            throw error(0, "Task Symbol: [" + getAttribute(0) + "] is invalid.");
+        }
+        return task;
+    }
+
+    private void requireAttributes(String taskType, int number) {
+        if (count < number) {
+            throw new ReadAttributeException(taskType, record, line, record.length() + 1,
+                    "Number of attributes less than " + number);
+        }
+    }
+
+    private boolean decodeIsDone(int i) {
+        if (ends[i] - starts[i] == 1) {
+            char c = record.charAt(starts[i]);
+            if (c == '0' || c == '1') {
+                return c == '1';
+            }
+        }
+        throw error(i, getAttribute(i) + " is not defined when converting int to bool.");
+    }
+
+    private LocalDateTime decodeTime(int i) {
+        LocalDateTime time = DateTimeCodec.tryParse(record, starts[i], ends[i]);
+        if (time == null) {
+            throw error(i, "Date is invalid.");
+        }
+        return time;
+    }
+
+    private String getAttribute(int i) {
+        return record.substring(starts[i], ends[i]);
+    }
+
+    private ReadAttributeException error(int i, String message) {
+        return new ReadAttributeException("Task", record, line, starts[i] + 1, message);
+    }
+}
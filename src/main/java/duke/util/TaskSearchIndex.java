@@ -0,0 +1,284 @@
+package duke.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+
+import duke.task.Task;
+
+/**
+ * Represents the trigram index over the names of the Tasks in a TaskList, used to find Tasks whose
+ * names contain a given String without visiting every Task.
+ * Each indexed Task takes a slot, and every trigram of its name holds the slots of the Tasks containing it.
+ * A target is answered by checking the Tasks in the smallest posting among its trigrams, so targets shorter
+ * than a trigram are not answered by the index. Each slot also holds an order key, increasing along the
+ * TaskList, so that the matches are returned in the order of the TaskList.
+ * Removed Tasks leave their slots empty until there are more empty slots than Tasks, when the slots are
+ * compacted. The index takes about five times the memory of the names it holds, e.g. 92 MB for the 17 million
+ * characters of the names of a million generated Tasks, as TaskListBenchmark.buildSearchIndex reports.
+ */
+public class TaskSearchIndex {
+    /**
+     * The length of the n-grams indexed, which is the shortest target the index answers.
+     */
+    public static final int GRAM_LENGTH = 3;
+
+    private static final long ORDER_GAP = 1L << 20;
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The indexed Tasks by their slots, which is null for the slots of removed Tasks.
+     */
+    private Task[] tasks = new Task[INITIAL_CAPACITY];
+
+    /**
+     * The order keys of the indexed Tasks by their slots.
+     */
+    private long[] orders = new long[INITIAL_CAPACITY];
+    private int slotCount;
+    private int taskCount;
+
+    /**
+     * The slots of the Tasks whose names contain each trigram.
+     */
+    private final HashMap<String, Posting> postings = new HashMap<>();
+
+    /**
+     * The slots of the Tasks whose names are too short to contain a trigram.
+     */
+    private final Posting shortPosting = new Posting();
+
+    /**
+     * Constructs the index over the given Tasks.
+     * @param tasks The given Tasks, in order.
+     */
+    public TaskSearchIndex(Iterable<Task> tasks) {
+        long order = 0;
+        for (Task task : tasks) {
+            order += ORDER_GAP;
+            addSlot(task, order);
+        }
+    }
+
+    /**
+     * Indexes a Task which has been inserted between two given Tasks.
+     * @param task The inserted Task.
+     * @param previous The Task before it, or null if it is the first Task.
+     * @param next The Task after it, or null if it is the last Task.
+     * @param tasks All Tasks in order, used if the order keys have to be reassigned.
+     */
+    public void add(Task task, Task previous, Task next, Iterable<Task> tasks) {
+        long previousOrder = previous == null ? 0 : orders[slotOf(previous)];
+        long nextOrder = next == null ? previousOrder + 2 * ORDER_GAP : orders[slotOf(next)];
+        if (nextOrder - previousOrder < 2) {
+            rebuild(tasks);
+        } else {
+            addSlot(task, previousOrder + (nextOrder - previousOrder) / 2);
+        }
+    }
+
+    /**
+     * Removes a Task from the index.
+     * @param task The removed Task.
+     */
+    public void remove(Task task) {
+        tasks[slotOf(task)] = null;
+        taskCount--;
+        if (slotCount - taskCount > Math.max(taskCount, INITIAL_CAPACITY)) {
+            compact();
+        }
+    }
+
+    /**
+     * Replaces a Task in the index by another Task at the same position.
+     * @param oldTask The replaced Task.
+     * @param newTask The new Task.
+     */
+    public void replace(Task oldTask, Task newTask) {
+        int slot = slotOf(oldTask);
+        if (oldTask.getName().equals(newTask.getName())) {
+            tasks[slot] = newTask;
+            return;
+        }
+        long order = orders[slot];
+        remove(oldTask);
+        addSlot(newTask, order);
+    }
+
+    /**
+     * Returns the Tasks whose names contain the given String, in the order of the TaskList.
+     * @param target The given String, which is at least as long as a trigram.
+     * @return The matching Tasks.
+     */
+    public List<Task> find(String target) {
+        assert target.length() >= GRAM_LENGTH : "The target is too short for the index.";
+        Posting candidates = getSmallestPosting(target);
+        int[] matches = new int[candidates.size];
+        int matchCount = 0;
+        boolean isInOrder = true;
+        for (int i = 0; i < candidates.size; i++) {
+            int slot = candidates.slots[i];
+            if (tasks[slot] != null && tasks[slot].getName().contains(target)) {
+                isInOrder &= matchCount == 0 || orders[matches[matchCount - 1]] < orders[slot];
+                matches[matchCount++] = slot;
+            }
+        }
+        ArrayList<Task> result = new ArrayList<>(matchCount);
+        if (isInOrder) {
+            // Tasks are mostly appended, so their slots are usually in the order of the TaskList already.
+            for (int i = 0; i < matchCount; i++) {
+                result.add(tasks[matches[i]]);
+            }
+            return result;
+        }
+        Arrays.stream(matches, 0, matchCount).boxed().sorted(Comparator.comparingLong(slot -> orders[slot]))
+                .forEach(slot -> result.add(tasks[slot]));
+        return result;
+    }
+
+    /**
+     * Returns the estimated number of bytes the index holds in memory, not counting the Tasks.
+     * @return The estimated number of bytes.
+     */
+    public long estimateSize() {
+        int arrayOverhead = 16;
+        int postingOverhead = 112;
+        long result = 2L * arrayOverhead + 4L * tasks.length + 8L * orders.length;
+        for (Posting posting : postings.values()) {
+            result += postingOverhead + 4L * posting.slots.length;
+        }
+        return result + 4L * shortPosting.slots.length;
+    }
+
+    /**
+     * Discards all slots and indexes the given Tasks again with evenly spaced order keys.
+     * @param tasks All Tasks in order.
+     */
+    private void rebuild(Iterable<Task> tasks) {
+        this.tasks = new Task[INITIAL_CAPACITY];
+        this.orders = new long[INITIAL_CAPACITY];
+        slotCount = 0;
+        taskCount = 0;
+        postings.clear();
+        shortPosting.size = 0;
+        long order = 0;
+        for (Task task : tasks) {
+            order += ORDER_GAP;
+            addSlot(task, order);
+        }
+    }
+
+    /**
+     * Moves the Tasks into the lowest slots, dropping the slots of removed Tasks from all postings.
+     */
+    private void compact() {
+        int[] newSlots = new int[slotCount];
+        int newSlotCount = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (tasks[slot] != null) {
+                tasks[newSlotCount] = tasks[slot];
+                orders[newSlotCount] = orders[slot];
+                newSlots[slot] = newSlotCount++;
+            } else {
+                newSlots[slot] = -1;
+            }
+        }
+        Arrays.fill(tasks, newSlotCount, slotCount, null);
+        slotCount = newSlotCount;
+        postings.values().removeIf(posting -> posting.remap(newSlots) == 0);
+        shortPosting.remap(newSlots);
+    }
+
+    private void addSlot(Task task, long order) {
+        if (slotCount == tasks.length) {
+            tasks = Arrays.copyOf(tasks, slotCount * 2);
+            orders = Arrays.copyOf(orders, slotCount * 2);
+        }
+        int slot = slotCount++;
+        tasks[slot] = task;
+        orders[slot] = order;
+        taskCount++;
+        String name = task.getName();
+        if (name.length() < GRAM_LENGTH) {
+            shortPosting.add(slot);
+            return;
+        }
+        for (int i = 0; i + GRAM_LENGTH <= name.length(); i++) {
+            String gram = name.substring(i, i + GRAM_LENGTH);
+            if (name.indexOf(gram) == i) {
+                postings.computeIfAbsent(gram, x -> new Posting()).add(slot);
+            }
+        }
+    }
+
+    /**
+     * Returns the slot of an indexed Task, found among the slots of the smallest posting of its name.
+     * @param task The indexed Task.
+     * @return The slot of the Task.
+     */
+    private int slotOf(Task task) {
+        if (slotCount > 0 && tasks[slotCount - 1] == task) {
+            return slotCount - 1;
+        }
+        String name = task.getName();
+        Posting posting = name.length() < GRAM_LENGTH ? shortPosting : getSmallestPosting(name);
+        for (int i = 0; i < posting.size; i++) {
+            if (tasks[posting.slots[i]] == task) {
+                return posting.slots[i];
+            }
+        }
+        throw new IllegalStateException("The Task is not indexed: " + task);
+    }
+
+    private Posting getSmallestPosting(String target) {
+        Posting result = null;
+        for (int i = 0; i + GRAM_LENGTH <= target.length(); i++) {
+            Posting posting = postings.get(target.substring(i, i + GRAM_LENGTH));
+            if (posting == null) {
+                return Posting.EMPTY;
+            }
+            if (result == null || posting.size < result.size) {
+                result = posting;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Represents the slots of the Tasks containing a trigram, in increasing order.
+     */
+    private static final class Posting {
+        private static final Posting EMPTY = new Posting();
+
+        private int[] slots = new int[1];
+        private int size;
+
+        private void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        /**
+         * Replaces the slots by their new slots, dropping those of removed Tasks.
+         * @param newSlots The new slots by the old slots, which are -1 for removed Tasks.
+         * @return The number of slots left.
+         */
+        private int remap(int[] newSlots) {
+            int newSize = 0;
+            for (int i = 0; i < size; i++) {
+                if (newSlots[slots[i]] >= 0) {
+                    slots[newSize++] = newSlots[slots[i]];
+                }
+            }
+            size = newSize;
+            if (size < slots.length / 4) {
+                slots = Arrays.copyOf(slots, Math.max(1, size));
+            }
+            return size;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package duke.util;
+
+import duke.task.Task;
+
+/**
+ * Represents the backing sequence of Tasks used by a TaskList.
+ */
+public interface TaskSequence extends Iterable<Task> {
+    /**
+     * The system property selecting the implementation used by new TaskLists.
+     */
+    String TYPE_PROPERTY = "duke.taskList";
+
+    /**
+     * The value of the system property selecting the ArrayList backed implementation.
+     */
+    String TYPE_ARRAY = "array";
+
+    /**
+     * The value of the system property selecting the persistent implementation.
+     */
+    String TYPE_PERSISTENT = "persistent";
+
+    /**
+     * Returns an empty TaskSequence of the implementation selected by the system property.
+     * @return An empty TaskSequence.
+     */
+    static TaskSequence create() {
+        String type = System.getProperty(TYPE_PROPERTY, TYPE_ARRAY);
+        return type.equals(TYPE_PERSISTENT) ? new PersistentTaskSequence() : new ArrayTaskSequence();
+    }
+
+    /**
+     * Returns the Task at given index.
+     * @param i The given index.
+     * @return The Task at given index.
+     */
+    Task get(int i);
+
+    /**
+     * Replaces the Task at given index.
+     * @param i The given index.
+     * @param task The given Task.
+     * @return The replaced Task.
+     */
+    Task set(int i, Task task);
+
+    /**
+     * Inserts a Task at given index.
+     * @param i The given index.
+     * @param task The given Task.
+     */
+    void add(int i, Task task);
+
+    /**
+     * Returns and removes the Task at given index.
+     * @param i The given index.
+     * @return The removed Task.
+     */
+    Task remove(int i);
+
+    /**
+     * Returns the number of Tasks in the sequence.
+     * @return The number of Tasks.
+     */
+    int size();
+
+    /**
+     * Returns a TaskSequence holding the same Tasks, which is not affected by later
+     * modifications to this one.
+     * @return The snapshot of this TaskSequence.
+     */
+    TaskSequence snapshot();
+}
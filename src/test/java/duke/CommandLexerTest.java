@@ -0,0 +1,37 @@
+package duke;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import duke.command.MarkCommand;
+import duke.exception.InvalidArgumentException;
+import duke.exception.NoArgumentException;
+import duke.util.CommandLexer;
+import duke.util.Parser;
+
+public class CommandLexerTest extends DukeTest {
+    @Test
+    public void test1() {
+        CommandLexer lexer = CommandLexer.lex("  deadline fix /tmp bug  /by 2022-08-25 23:45 ");
+        assertEquals("deadline", lexer.getWord());
+        assertEquals(-1, lexer.indexOfFlag("/at"));
+        int flagIndex = lexer.indexOfFlag("/by");
+        assertEquals(1, flagIndex);
+        assertEquals("fix /tmp bug", lexer.getArgumentsBefore(flagIndex));
+        assertEquals("2022-08-25 23:45", lexer.getFlagValue(flagIndex));
+        assertEquals("", CommandLexer.lex("   ").getWord());
+    }
+
+    @Test
+    public void test2() {
+        Duke duke = new Duke();
+        duke.execute(Parser.parseCommand("deadline fix a/b /by 2022-08-25 23:45"));
+        assertEquals("fix a/b", duke.getTaskList().get(0).getName());
+        assertEquals(3, ((MarkCommand) Parser.parseCommand(" mark 3 ")).getIdTask());
+        assertThrows(NoArgumentException.class, () -> Parser.parseCommand("mark"));
+        assertThrows(InvalidArgumentException.class, () -> Parser.parseCommand("mark three"));
+        assertThrows(InvalidArgumentException.class, () -> Parser.parseCommand("event party /by 2022-08-25 23:45"));
+    }
+}
@@ -0,0 +1,47 @@
+package duke;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumSet;
+import java.util.ServiceLoader;
+
+import org.junit.jupiter.api.Test;
+
+import duke.command.Action;
+import duke.command.GreetCommand;
+import duke.command.HistoryCommand;
+import duke.command.TodoCommand;
+import duke.exception.InvalidActionException;
+import duke.util.CommandLexer;
+import duke.util.CommandRegistry;
+import duke.util.CommandRegistry.CommandProvider;
+import duke.util.Parser;
+
+public class CommandRegistryTest extends DukeTest {
+    @Test
+    public void test1() {
+        assertEquals("deadline", Action.convertToString(Action.DEADLINE));
+        assertEquals(Action.DEADLINE, Action.parseAction("deadline"));
+        assertTrue(Parser.parseCommand("todo read book") instanceof TodoCommand);
+        assertThrows(InvalidActionException.class, () -> Parser.parseCommand("hello"));
+    }
+
+    @Test
+    public void test2() {
+        CommandRegistry.register("hi", lexer -> new GreetCommand());
+        assertTrue(Parser.parseCommand("hi there") instanceof GreetCommand);
+    }
+
+    @Test
+    public void test3() {
+        EnumSet<Action> actions = EnumSet.noneOf(Action.class);
+        for (CommandProvider provider : ServiceLoader.load(CommandProvider.class)) {
+            assertTrue(actions.add(provider.getAction()));
+        }
+        assertEquals(EnumSet.complementOf(EnumSet.of(Action.ECHO, Action.ADD)), actions);
+        assertTrue(Parser.parseCommand("history") instanceof HistoryCommand);
+        assertTrue(TodoCommand.parse(CommandLexer.lex("todo read book")) instanceof TodoCommand);
+    }
+}
@@ -0,0 +1,32 @@
+package duke;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import duke.util.DateTimeCodec;
+
+public class DateTimeCodecTest extends DukeTest {
+    @Test
+    public void test1() {
+        LocalDateTime time = LocalDateTime.of(2022, 8, 5, 3, 7);
+        assertEquals(time, DateTimeCodec.tryParse("2022-08-05 03:07"));
+        assertEquals("2022-08-05 03:07", DateTimeCodec.format(time));
+        assertEquals("at 0001-01-01 00:00", DateTimeCodec.appendTo(new StringBuilder("at "),
+                LocalDateTime.of(1, 1, 1, 0, 0)).toString());
+        assertEquals(LocalDateTime.of(2024, 2, 29, 23, 59), DateTimeCodec.tryParse("2024-02-29 23:59"));
+    }
+
+    @Test
+    public void test2() {
+        assertEquals(LocalDateTime.of(2022, 2, 28, 12, 0), DateTimeCodec.tryParse("2022-02-30 12:00"));
+        assertNull(DateTimeCodec.tryParse("2022-02-32 12:00"));
+        assertNull(DateTimeCodec.tryParse("2022-13-01 12:00"));
+        assertNull(DateTimeCodec.tryParse("2022-01-01 12:60"));
+        assertNull(DateTimeCodec.tryParse("2022-1-01 12:00"));
+        assertNull(DateTimeCodec.tryParse("tomorrow"));
+    }
+}
@@ -0,0 +1,133 @@
+package duke;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import duke.command.Action;
+import duke.command.Command;
+import duke.task.Todo;
+import duke.util.Parser;
+
+public class DukeConcurrencyTest extends DukeTest {
+    private static final int READERS = 4;
+    private static final int ROUNDS = 200;
+    private static final int SIZE = 100;
+
+    private static Command createCommand(Action action, boolean isReadOnly, ThrowingSupplier body) {
+        return new Command(action) {
+            @Override
+            public String execute(Duke duke) {
+                try {
+                    return body.get();
+                } catch (InterruptedException exception) {
+                    throw new IllegalStateException(exception);
+                }
+            }
+
+            @Override
+            public boolean isTerminating() {
+                return false;
+            }
+
+            @Override
+            public boolean isReadOnly() {
+                return isReadOnly;
+            }
+        };
+    }
+
+    @Test
+    public void test1() throws Exception {
+        Duke duke = new Duke();
+        CountDownLatch allInside = new CountDownLatch(READERS);
+        AtomicInteger activeReaders = new AtomicInteger();
+        Command reader = createCommand(Action.LIST, true, () -> {
+            activeReaders.incrementAndGet();
+            allInside.countDown();
+            try {
+                return Boolean.toString(allInside.await(10, TimeUnit.SECONDS));
+            } finally {
+                activeReaders.decrementAndGet();
+            }
+        });
+        Command writer = createCommand(Action.TODO, false, () -> Integer.toString(activeReaders.get()));
+
+        ExecutorService pool = Executors.newFixedThreadPool(READERS + 1);
+        try {
+            List<Future<String>> readResults = new ArrayList<>();
+            for (int i = 0; i < READERS; i++) {
+                readResults.add(pool.submit(() -> duke.execute(reader)));
+            }
+            // a writer waiting for the lock blocks new readers, so it only comes once all readers are inside
+            assertTrue(allInside.await(10, TimeUnit.SECONDS));
+            Future<String> writeResult = pool.submit(() -> duke.execute(writer));
+            for (Future<String> result : readResults) {
+                assertEquals("true", result.get(20, TimeUnit.SECONDS));
+            }
+            assertEquals("0", writeResult.get(20, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test2() throws Exception {
+        Duke duke = new Duke();
+        for (int i = 1; i <= SIZE; i++) {
+            duke.getTaskList().add(new Todo("task " + i));
+        }
+        ConcurrentLinkedQueue<String> errors = new ConcurrentLinkedQueue<>();
+        ExecutorService pool = Executors.newFixedThreadPool(READERS + 1);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < READERS; i++) {
+                results.add(pool.submit(() -> {
+                    for (int round = 0; round < ROUNDS; round++) {
+                        String list = duke.execute(Parser.parseCommand("list 1-20"));
+                        if (!list.contains(" of " + SIZE + " ") && !list.contains(" of " + (SIZE + 1) + " ")) {
+                            errors.add(list);
+                        }
+                        String found = duke.execute(Parser.parseCommand("find task 5"));
+                        if (!found.contains("[T][ ] task 5") && !found.contains("[T][X] task 5")) {
+                            errors.add(found);
+                        }
+                    }
+                }));
+            }
+            results.add(pool.submit(() -> {
+                for (int round = 0; round < ROUNDS; round++) {
+                    duke.getResponse("todo extra task");
+                    duke.getResponse("mark 5");
+                    duke.getResponse("delete " + (SIZE + 1));
+                    duke.getResponse("unmark 5");
+                }
+            }));
+            for (Future<?> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertTrue(errors.isEmpty(), String.valueOf(errors.peek()));
+        assertEquals(SIZE, duke.getTaskList().size());
+        assertEquals(false, duke.getTaskList().get(4).getIsDone());
+        assertEquals(4 * ROUNDS, duke.getHistory().getUndoSize());
+    }
+
+    @FunctionalInterface
+    private interface ThrowingSupplier {
+        String get() throws InterruptedException;
+    }
+}
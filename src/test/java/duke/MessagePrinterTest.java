@@ -0,0 +1,36 @@
+package duke;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import duke.util.MessagePrinter;
+
+public class MessagePrinterTest extends DukeTest {
+    private static final String SEPARATOR = System.lineSeparator();
+    private static final String BORDER = "*".repeat(39);
+
+    @Test
+    public void test1() {
+        MessagePrinter printer = new MessagePrinter();
+        assertEquals(BORDER + SEPARATOR + "Bye" + SEPARATOR + BORDER, printer.getPrintMessage("Bye"));
+        assertEquals(BORDER + SEPARATOR + "a" + SEPARATOR + SEPARATOR + "b" + SEPARATOR + BORDER,
+                printer.getPrintMessage("a" + SEPARATOR + SEPARATOR + "b" + SEPARATOR + SEPARATOR));
+        assertEquals(BORDER + SEPARATOR + "b" + SEPARATOR + BORDER, printer.getPrintMessage(SEPARATOR + "b"));
+        assertEquals(BORDER + SEPARATOR + SEPARATOR + BORDER, printer.getPrintMessage(""));
+        assertEquals(BORDER + SEPARATOR + SEPARATOR + BORDER, printer.getPrintMessage(SEPARATOR));
+    }
+
+    @Test
+    public void test2() {
+        MessagePrinter printer = new MessagePrinter();
+        StringBuilder message = new StringBuilder();
+        for (int i = 1; i <= 100000; i++) {
+            message.append(i).append(". [T][ ] task ").append(i).append(SEPARATOR);
+        }
+        StringBuilder builder = new StringBuilder("> ");
+        assertEquals(builder, printer.appendPrintMessage(builder, message));
+        assertEquals("> " + BORDER + SEPARATOR + message + BORDER, builder.toString());
+        assertEquals(builder.substring(2), printer.getPrintMessage(message.toString()));
+    }
+}
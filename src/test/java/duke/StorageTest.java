@@ -0,0 +1,75 @@
+package duke;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import duke.history.AddChange;
+import duke.history.MarkChange;
+import duke.history.RemoveChange;
+import duke.task.Todo;
+import duke.util.BinaryTaskListCodec;
+import duke.util.Parser;
+import duke.util.Storage;
+import duke.util.TaskList;
+
+public class StorageTest extends DukeTest {
+    private final String journalTestPath = "test/data/journal/duke.txt";
+
+    @Test
+    public void test1() {
+        Storage storage = new Storage(journalTestPath);
+        TaskList tasks = Parser.parseTaskList(this.wholeFormattedTaskList);
+        storage.checkpoint(tasks);
+        storage.append(List.of(new MarkChange(1, true), new RemoveChange(0, tasks.get(0))));
+        storage.append(List.of(new AddChange(7, new Todo("explore"))));
+
+        TaskList expected = Parser.parseTaskList(this.wholeFormattedTaskList);
+        expected.setIsDone(1, true);
+        expected.remove(0);
+        expected.add(new Todo("explore"));
+        assertEquals(expected, new Storage(journalTestPath).readTaskList());
+    }
+
+    @Test
+    public void test2() throws IOException {
+        Storage storage = new Storage(journalTestPath);
+        storage.checkpoint(Parser.parseTaskList(this.wholeFormattedTaskList));
+        storage.append(List.of(new MarkChange(1, true)));
+        FileWriter fileWriter = new FileWriter(journalTestPath + ".journal", true);
+        fileWriter.write("M } 2 } 1");
+        fileWriter.close();
+
+        TaskList expected = Parser.parseTaskList(this.wholeFormattedTaskList);
+        expected.setIsDone(1, true);
+        assertEquals(expected, storage.readTaskList());
+
+        storage.write("T } 0 } explore");
+        assertEquals(Parser.parseTaskList("T } 0 } explore"), storage.readTaskList());
+    }
+
+    @Test
+    public void test3() {
+        TaskList expected = Parser.parseTaskList(this.wholeFormattedTaskList);
+        ByteBuffer buffer = BinaryTaskListCodec.encode(expected);
+        TaskList actual = BinaryTaskListCodec.decode(buffer);
+        assertEquals(expected, actual);
+        assertEquals(expected.toFormattedString(), actual.toFormattedString());
+
+        System.setProperty(Storage.FORMAT_PROPERTY, Storage.FORMAT_BINARY);
+        try {
+            Storage storage = new Storage(journalTestPath);
+            storage.checkpoint(expected);
+            storage.append(List.of(new MarkChange(1, true)));
+        } finally {
+            System.clearProperty(Storage.FORMAT_PROPERTY);
+        }
+        expected.setIsDone(1, true);
+        assertEquals(expected, new Storage(journalTestPath).readTaskList());
+    }
+}
@@ -1,14 +1,24 @@
 package duke;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import duke.exception.ReadAttributeException;
+import duke.exception.TaskAlreadyExistException;
 import duke.task.Deadline;
 import duke.task.Event;
 import duke.task.Task;
+import duke.task.Todo;
 import duke.util.Parser;
 import duke.util.TaskList;
+import duke.util.TaskListListener;
 
 public class TaskListTest {
     @Test
@@ -51,4 +61,97 @@ public class TaskListTest {
         assertEquals(actual, expected);
     }
 
+    @Test
+    public void test4() {
+        TaskList actualList = new TaskList();
+        actualList.add(new Event("cs2030s", Parser.parseStringToDateTime("2022-01-21 02:34")));
+        actualList.add(new Deadline("cs2030s", Parser.parseStringToDateTime("2022-01-21 02:34")));
+        actualList.add(new Todo("cs2030s"));
+        assertThrows(TaskAlreadyExistException.class, () -> actualList.add(new Todo("cs2030s")));
+        assertThrows(TaskAlreadyExistException.class, () -> actualList.add(0,
+                new Event("cs2030s", Parser.parseStringToDateTime("2022-01-21 02:34"))));
+
+        actualList.remove(2);
+        actualList.add(0, new Todo("cs2030s"));
+        assertEquals(3, actualList.size());
+    }
+
+    @Test
+    public void test5() {
+        StringBuilder formattedString = new StringBuilder();
+        TaskList expected = new TaskList();
+        for (int i = 0; i < 10000; i++) {
+            formattedString.append("T } 0 } task ").append(i).append(System.lineSeparator());
+            expected.add(new Todo("task " + i));
+        }
+        assertEquals(expected, Parser.parseTaskList(formattedString.toString()));
+
+        formattedString.append("T } 1 } task 0");
+        assertThrows(TaskAlreadyExistException.class, () -> Parser.parseTaskList(formattedString.toString()));
+    }
+
+    @Test
+    public void test6() {
+        String formattedString = "T } 0 } read book" + System.lineSeparator()
+                + System.lineSeparator()
+                + "D } 1 } return book } 2022-08-25 23:45" + System.lineSeparator()
+                + "E } 2 } meeting } 2022-08-25 14:00";
+        ReadAttributeException exception = assertThrows(ReadAttributeException.class, () ->
+                Parser.parseTaskList(formattedString));
+        assertTrue(exception.getMessage().contains("at line 4, column 5"));
+
+        Task task = Parser.parseTask("  D } 1 }  return book } 2022-08-25 23:45 ");
+        assertEquals("return book", task.getName());
+        assertTrue(task.getIsDone());
+        assertThrows(ReadAttributeException.class, () -> Parser.parseTask("X } 0 } read book"));
+        assertThrows(ReadAttributeException.class, () -> Parser.parseTask("E } 0 } meeting"));
+    }
+
+    @Test
+    public void test7() {
+        List<String> events = new ArrayList<>();
+        TaskListListener listener = new TaskListListener() {
+            @Override
+            public void onAdded(int i, Task task) {
+                events.add("added " + i + " " + task);
+            }
+
+            @Override
+            public void onRemoved(int i, Task task) {
+                events.add("removed " + i + " " + task);
+            }
+
+            @Override
+            public void onUpdated(int i, Task oldTask, Task newTask) {
+                events.add("updated " + i + " " + oldTask + " -> " + newTask);
+            }
+
+            @Override
+            public void onReplaced(TaskList tasks) {
+                events.add("replaced " + tasks.size());
+            }
+        };
+        Duke duke = new Duke();
+        duke.addTaskListListener(listener);
+        for (String input : new String[] {"todo read book", "todo return book", "mark 2", "delete 1", "undo"}) {
+            duke.execute(Parser.parseCommand(input));
+        }
+        TaskList snapshot = duke.getTaskList().snapshot();
+        snapshot.add(new Todo("not followed"));
+        duke.setTaskList(Parser.parseTaskList("T } 0 } borrow book"));
+        duke.execute(Parser.parseCommand("todo buy bread"));
+        assertEquals(List.of("replaced 0", "added 0 [T][ ] read book", "added 1 [T][ ] return book",
+                "updated 1 [T][ ] return book -> [T][X] return book", "removed 0 [T][ ] read book",
+                "added 0 [T][ ] read book", "replaced 1", "added 1 [T][ ] buy bread"), events);
+    }
+
+    @Test
+    public void test8() {
+        TaskList tasks = Parser.parseTaskList("T } 0 } read book");
+        TaskList clone = tasks.clone();
+        assertSame(tasks.get(0), clone.get(0));
+        tasks.add(new Todo("return book"));
+        tasks.setIsDone(0, true);
+        assertEquals(Parser.parseTaskList("T } 0 } read book"), clone);
+    }
 }
@@ -0,0 +1,62 @@
+package duke;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import duke.task.Task;
+import duke.task.Todo;
+import duke.util.ArrayTaskSequence;
+import duke.util.PersistentTaskSequence;
+import duke.util.TaskSequence;
+
+public class TaskSequenceTest {
+    private ArrayList<Task> toArrayList(TaskSequence sequence) {
+        ArrayList<Task> result = new ArrayList<>();
+        sequence.forEach(result::add);
+        return result;
+    }
+
+    @Test
+    public void test1() {
+        Random random = new Random(2103);
+        TaskSequence expected = new ArrayTaskSequence();
+        TaskSequence actual = new PersistentTaskSequence();
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(4);
+            if (operation < 2 || expected.size() == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, new Todo("task " + i));
+                actual.add(index, new Todo("task " + i));
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), actual.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, new Todo("set " + i)), actual.set(index, new Todo("set " + i)));
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+        assertEquals(toArrayList(expected), toArrayList(actual));
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    public void test2() {
+        TaskSequence actual = new PersistentTaskSequence();
+        actual.add(0, new Todo("read book"));
+        actual.add(1, new Todo("return book"));
+        TaskSequence snapshot = actual.snapshot();
+        actual.remove(0);
+        actual.set(0, new Todo("buy book"));
+        assertEquals(2, snapshot.size());
+        assertEquals(new Todo("read book"), snapshot.get(0));
+        assertEquals(new Todo("return book"), snapshot.get(1));
+        assertEquals(new Todo("buy book"), actual.get(0));
+    }
+}
@@ -1,15 +1,83 @@
 package duke.command;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.Test;
 
+import duke.task.Task;
+import duke.task.Todo;
 import duke.util.Parser;
 import duke.util.TaskList;
 
 public class FindCommandTest extends CommandTest {
-
+    private static List<String> findNames(TaskList tasks, String target) {
+        return tasks.find(target).stream().map(Task::getName).collect(Collectors.toList());
+    }
 
     @Test
     public void task1() {
         TaskList wholeTaskList = Parser.parseTaskList(this.wholeFormattedTaskList);
     }
+
+    @Test
+    public void task2() {
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("read book"));
+        tasks.add(new Todo("return book"));
+        tasks.add(new Todo("buy bread"));
+        assertEquals(List.of("read book", "buy bread"), findNames(tasks, "rea"));
+        assertEquals(List.of("read book", "return book"), findNames(tasks, "book"));
+
+        tasks.add(0, new Todo("bookmark page"));
+        tasks.add(2, new Todo("borrow book"));
+        tasks.remove(3);
+        tasks.setIsDone(0, true);
+        assertEquals(List.of("bookmark page", "read book", "borrow book"), findNames(tasks, "book"));
+        assertEquals(List.of("read book", "buy bread"), findNames(tasks, "re"));
+        assertEquals(List.of(), findNames(tasks, "return"));
+        assertEquals(true, tasks.find("bookmark").get(0).getIsDone());
+    }
+
+    @Test
+    public void task3() {
+        TaskList tasks = new TaskList();
+        for (int i = 0; i < 1200; i++) {
+            tasks.add(new Todo("task " + i + (i % 3 == 0 ? " book" : "")));
+        }
+        assertEquals(400, tasks.find("book").size());
+        Random random = new Random(2103);
+        for (int i = 0; i < 3000; i++) {
+            int index = random.nextInt(tasks.size());
+            switch (random.nextInt(4)) {
+            case 0:
+                tasks.remove(index);
+                break;
+            case 1:
+                tasks.setIsDone(index, random.nextBoolean());
+                break;
+            default:
+                tasks.add(index, new Todo("new " + i + (i % 2 == 0 ? " book" : "")));
+                break;
+            }
+            if (i % 500 == 0) {
+                tasks.add(0, new Todo("ab"));
+                tasks.remove(0);
+            }
+        }
+        for (String target : List.of("book", "task 1", "new 2", "ok", "k", "absent")) {
+            List<String> expected = new ArrayList<>();
+            tasks.forEach(task -> {
+                if (task.getName().contains(target)) {
+                    expected.add(task.getName());
+                }
+            });
+            assertEquals(expected, findNames(tasks, target));
+        }
+        assertEquals(tasks.get(0).getIsDone(), tasks.find(tasks.get(0).getName()).get(0).getIsDone());
+    }
 }
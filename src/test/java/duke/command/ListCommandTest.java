@@ -0,0 +1,58 @@
+package duke.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import duke.Duke;
+import duke.exception.InvalidArgumentException;
+import duke.exception.TaskNotFoundException;
+import duke.task.Todo;
+import duke.util.MessagePrinter;
+import duke.util.Parser;
+
+public class ListCommandTest extends CommandTest {
+    private static String frame(String... lines) {
+        StringBuilder message = new StringBuilder();
+        for (String line : lines) {
+            message.append(line).append(System.lineSeparator());
+        }
+        return new MessagePrinter().getPrintMessage(message.toString());
+    }
+
+    private static Duke createDuke(int size) {
+        Duke duke = new Duke();
+        for (int i = 1; i <= size; i++) {
+            duke.getTaskList().add(new Todo("task " + i));
+        }
+        return duke;
+    }
+
+    @Test
+    public void test1() {
+        Duke duke = createDuke(3);
+        assertEquals(frame("Here are the tasks in your list:", "1. [T][ ] task 1", "2. [T][ ] task 2",
+                "3. [T][ ] task 3"), duke.execute(Parser.parseCommand("list")));
+        assertEquals(frame("Here are tasks 2 to 3 of 3 in your list:", "2. [T][ ] task 2", "3. [T][ ] task 3"),
+                duke.execute(Parser.parseCommand("list 2 - 10")));
+        assertEquals(frame("Here are tasks 1 to 3 of 3 in your list (page 1 of 1):", "1. [T][ ] task 1",
+                "2. [T][ ] task 2", "3. [T][ ] task 3"), duke.execute(Parser.parseCommand("list --page 1")));
+        assertEquals(frame("Currently no tasks in the list."), new Duke().execute(Parser.parseCommand("list 1-2")));
+        assertEquals("1. [T][ ] task 1\n2. [T][ ] task 2\n3. [T][ ] task 3\n", duke.getTaskList().toString());
+    }
+
+    @Test
+    public void test2() {
+        Duke duke = createDuke(120);
+        String page = duke.execute(Parser.parseCommand("list --page 3"));
+        assertEquals(true, page.contains("Here are tasks 101 to 120 of 120 in your list (page 3 of 3):"));
+        assertEquals(true, page.contains("101. [T][ ] task 101" + System.lineSeparator()));
+        assertEquals(false, page.contains("100. "));
+        assertThrows(TaskNotFoundException.class, () -> duke.execute(Parser.parseCommand("list --page 4")));
+        assertThrows(TaskNotFoundException.class, () -> duke.execute(Parser.parseCommand("list 121-130")));
+        for (String input : new String[] {"list 0-3", "list 5-2", "list 3", "list --page 0", "list --page x"}) {
+            assertThrows(InvalidArgumentException.class, () -> Parser.parseCommand(input));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package duke.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import duke.Duke;
+import duke.history.CompositeChange;
+import duke.util.Parser;
+import duke.util.Storage;
+import duke.util.TaskList;
+
+public class RunCommandTest extends CommandTest {
+    private final String storageTestPath = "test/data/script/duke.txt";
+    private final Path scriptTestPath = Paths.get("test/data/script/script.txt");
+
+    private void writeScript(String... lines) throws IOException {
+        Files.createDirectories(scriptTestPath.getParent());
+        Files.write(scriptTestPath, String.join(System.lineSeparator(), lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void test1() throws IOException {
+        writeScript("todo read book", "", "deadline return book /by 2022-08-25 23:45", "mark 1", "mark 9",
+                "undo", "todo", "bye", "todo never run");
+        Duke duke = new Duke(storageTestPath);
+        duke.execute(Parser.parseCommand("todo buy bread"));
+        String report = duke.execute(Parser.parseCommand("run " + scriptTestPath));
+
+        TaskList expected = Parser.parseTaskList("T } 1 } buy bread" + System.lineSeparator()
+                + "T } 0 } read book" + System.lineSeparator()
+                + "D } 0 } return book } 2022-08-25 23:45");
+        assertEquals(expected, duke.getTaskList());
+        assertEquals(expected, new Storage(storageTestPath).readTaskList());
+        assertTrue(report.contains("3 commands failed:"));
+        assertTrue(report.contains("Line 5: "));
+        assertTrue(report.contains("Line 6: "));
+        assertTrue(report.contains("Line 7: "));
+
+        assertEquals(2, duke.getHistory().getUndoSize());
+        duke.execute(Parser.parseCommand("undo"));
+        assertEquals(Parser.parseTaskList("T } 0 } buy bread"), duke.getTaskList());
+    }
+
+    @Test
+    public void test2() {
+        CompositeChange change = (CompositeChange) new CompositeChange(List.of(
+                Parser.parseChange("A } 0 } T } 0 } read book"),
+                Parser.parseChange("R } 0 } 1" + System.lineSeparator() + "T } 0 } buy bread"),
+                Parser.parseChange("M } 0 } 1"))).invert();
+        CompositeChange parsed = (CompositeChange) Parser.parseChange(change.toFormattedString());
+        assertEquals(change.toFormattedString(), parsed.toFormattedString());
+        assertEquals(3, parsed.getChanges().size());
+    }
+
+    @Test
+    public void test3() throws IOException {
+        TaskList stored = Parser.parseTaskList("T } 0 } buy bread" + System.lineSeparator()
+                + "D } 1 } return book } 2022-08-25 23:45");
+        new Storage(storageTestPath).checkpoint(stored);
+        writeScript("todo imported");
+        Duke duke = new Duke(storageTestPath);
+        duke.runScript(scriptTestPath);
+
+        TaskList expected = Parser.parseTaskList("T } 0 } buy bread" + System.lineSeparator()
+                + "D } 1 } return book } 2022-08-25 23:45" + System.lineSeparator()
+                + "T } 0 } imported");
+        assertEquals(expected, duke.getTaskList());
+        assertEquals(expected, new Storage(storageTestPath).readTaskList());
+    }
+
+    @Test
+    public void test4() throws IOException {
+        new Storage(storageTestPath).checkpoint(Parser.parseTaskList("T } 0 } stored"));
+        writeScript("todo imported");
+        Duke duke = new Duke(storageTestPath);
+        duke.execute(Parser.parseCommand("todo typed this session"));
+        duke.execute(Parser.parseCommand("run " + scriptTestPath));
+
+        TaskList expected = Parser.parseTaskList("T } 0 } typed this session" + System.lineSeparator()
+                + "T } 0 } imported");
+        assertEquals(expected, duke.getTaskList());
+        assertEquals(expected, new Storage(storageTestPath).readTaskList());
+    }
+}
@@ -0,0 +1,65 @@
+package duke.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import duke.Duke;
+import duke.exception.TaskAlreadyExistException;
+import duke.history.AddChange;
+import duke.task.Todo;
+import duke.util.Parser;
+import duke.util.TaskList;
+
+public class UndoCommandTest extends CommandTest {
+    private void run(Duke duke, String... entries) {
+        for (String entry : entries) {
+            duke.execute(Parser.parseCommand(entry));
+        }
+    }
+
+    @Test
+    public void test1() {
+        Duke duke = new Duke();
+        run(duke, "todo read book", "deadline return book /by 2022-08-25 23:45", "mark 1", "delete 2");
+        TaskList expected = Parser.parseTaskList("T } 1 } read book");
+        assertEquals(expected, duke.getTaskList());
+        assertEquals(4, duke.getHistory().getUndoSize());
+
+        run(duke, "undo", "undo");
+        expected = Parser.parseTaskList("T } 0 } read book" + System.lineSeparator()
+                + "D } 0 } return book } 2022-08-25 23:45");
+        assertEquals(expected, duke.getTaskList());
+    }
+
+    @Test
+    public void test2() {
+        Duke duke = new Duke();
+        run(duke, "todo read book", "list", "find book", "mark 1", "mark 1");
+        assertEquals(2, duke.getHistory().getUndoSize());
+        run(duke, "undo", "undo");
+        assertEquals(new TaskList(), duke.getTaskList());
+    }
+
+    @Test
+    public void test3() {
+        Duke duke = new Duke();
+        run(duke, "todo read book", "todo return book", "undo", "undo", "redo");
+        assertEquals(Parser.parseTaskList("T } 0 } read book"), duke.getTaskList());
+        assertEquals(1, duke.getHistory().getRedoSize());
+        run(duke, "mark 1");
+        assertEquals(0, duke.getHistory().getRedoSize());
+        assertEquals(2, duke.getHistory().getUndoSize());
+    }
+
+    @Test
+    public void test4() {
+        Duke duke = new Duke();
+        run(duke, "todo read book", "undo");
+        duke.replay(new AddChange(0, new Todo("read book")));
+        assertThrows(TaskAlreadyExistException.class, () -> run(duke, "redo"));
+        assertEquals(0, duke.getHistory().getUndoSize());
+        assertEquals(1, duke.getHistory().getRedoSize());
+    }
+}
@@ -0,0 +1,124 @@
+package duke.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import duke.task.Todo;
+import duke.util.Parser;
+import duke.util.TaskList;
+
+public class HistoryTest {
+    private final Path spillPath = Paths.get("test/data/history.txt");
+
+    @Test
+    public void test1() {
+        History history = new History(2, Long.MAX_VALUE, null);
+        history.record(new AddChange(0, new Todo("a")));
+        history.record(new AddChange(1, new Todo("b")));
+        history.record(new AddChange(2, new Todo("c")));
+        assertEquals(2, history.getUndoSize());
+        assertEquals(new AddChange(2, new Todo("c")).toFormattedString(), history.undo().toFormattedString());
+        assertEquals(new AddChange(1, new Todo("b")).toFormattedString(), history.undo().toFormattedString());
+        assertNull(history.undo());
+    }
+
+    @Test
+    public void test2() {
+        History history = new History(1, Long.MAX_VALUE, spillPath);
+        TaskList oldTaskList = Parser.parseTaskList("T } 1 } a" + System.lineSeparator() + "T } 0 } b");
+        Change[] changes = {
+            new AddChange(0, new Todo("a")),
+            new MarkChange(0, true),
+            new ReplaceChange(oldTaskList, new TaskList()),
+            new RemoveChange(0, new Todo("c")),
+        };
+        for (Change change : changes) {
+            history.record(change);
+        }
+        assertEquals(4, history.getUndoSize());
+        assertEquals(3, history.getSpilledSize());
+        for (int i = changes.length - 1; i >= 0; i--) {
+            assertEquals(changes[i].toFormattedString(), history.undo().toFormattedString());
+        }
+        assertNull(history.undo());
+    }
+
+    @Test
+    public void test3() {
+        History history = new History(100, new MarkChange(0, true).estimateSize() * 2, null);
+        for (int i = 0; i < 5; i++) {
+            history.record(new MarkChange(i, true));
+        }
+        assertEquals(2, history.getUndoSize());
+    }
+
+    @Test
+    public void test4() {
+        History history = new History(1, Long.MAX_VALUE, spillPath);
+        TaskList tasks = new TaskList();
+        Change change = new ReplaceChange(tasks, Parser.parseTaskList("T } 0 } x"));
+        tasks = change.apply(tasks);
+        history.record(change);
+        tasks.add(new Todo("y"));
+        history.record(new AddChange(1, new Todo("y")));
+        assertEquals(1, history.getSpilledSize());
+
+        history.undo();
+        Change spilled = history.undo();
+        assertEquals(change.toFormattedString(), spilled.toFormattedString());
+        assertEquals(Parser.parseTaskList("T } 0 } x"), spilled.apply(tasks));
+    }
+
+    @Test
+    public void test5() {
+        History history = new History(2, Long.MAX_VALUE, spillPath);
+        for (int i = 0; i < 6; i++) {
+            history.record(new AddChange(i, new Todo(Integer.toString(i))));
+        }
+        for (int i = 5; i >= 0; i--) {
+            assertEquals(new AddChange(i, new Todo(Integer.toString(i))).toFormattedString(),
+                    history.undo().toFormattedString());
+            assertTrue(getMemorySize(history) <= 2);
+        }
+        assertNull(history.undo());
+        assertEquals(2, history.getRedoSize());
+
+        while (history.redo() != null) {
+            assertTrue(getMemorySize(history) <= 2);
+        }
+        assertEquals(2, history.getUndoSize());
+        assertEquals(new AddChange(1, new Todo("1")).toFormattedString(), history.undo().toFormattedString());
+    }
+
+    @Test
+    public void test6() {
+        long maxBytes = new MarkChange(0, true).estimateSize() * 3;
+        History history = new History(1, maxBytes, spillPath);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(history.record(new MarkChange(i, true)));
+        }
+        assertEquals(2, history.getSpilledSize());
+        TaskList newTaskList = Parser.parseTaskList("T } 0 } a" + System.lineSeparator() + "T } 0 } b");
+        Change change = new ReplaceChange(new TaskList(), newTaskList);
+        assertTrue(change.estimateSize() > maxBytes);
+        assertFalse(history.record(change));
+        assertEquals(0, history.getUndoSize());
+        assertEquals(0, history.getEstimatedBytes());
+        assertNull(history.undo());
+
+        assertTrue(history.record(new MarkChange(0, false)));
+        assertEquals(new MarkChange(0, false).toFormattedString(), history.undo().toFormattedString());
+        assertNull(history.undo());
+    }
+
+    private int getMemorySize(History history) {
+        return history.getUndoSize() - history.getSpilledSize() + history.getRedoSize();
+    }
+}
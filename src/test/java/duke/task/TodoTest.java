@@ -25,16 +25,14 @@ public class TodoTest {
     @Test
     public void test3() {
         final Task expected = Parser.parseTask("T } 1 } compileJava UP-TO-DATE");
-        Task actual = new Todo("compileJava UP-TO-DATE");
-        actual.markAsDone();
+        Task actual = new Todo("compileJava UP-TO-DATE").withIsDone(true);
         assertEquals(expected, actual);
     }
 
     @Test
     public void test4() {
         final Task expected = Parser.parseTask("E } 1 } compileJava UP-TO-DATE } 2022-01-22 10:00");
-        Task actual = new Todo("compileJava UP-TO-DATE");
-        actual.markAsDone();
+        Task actual = new Todo("compileJava UP-TO-DATE").withIsDone(true);
         assertEquals(expected.equals(actual), false);
     }
 }